@@ -0,0 +1,53 @@
+package net.openhft.chronicle.releasenotes.benchmarks;
+
+import net.openhft.chronicle.releasenotes.model.Issue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sorting issues with {@link Issue#compareByLabel(String)}, the
+ * order release notes are rendered in.
+ *
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar IssueComparator}, which
+ * also reports allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueComparatorBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int issueCount;
+
+    private List<Issue> issues;
+
+    @Setup
+    public void setup() {
+        issues = SyntheticIssues.generate(issueCount, 42);
+    }
+
+    @Benchmark
+    public List<Issue> sortByLabel() {
+        final List<Issue> sorted = new ArrayList<>(issues);
+
+        sorted.sort(Issue.compareByLabel("closed"));
+
+        return sorted;
+    }
+}
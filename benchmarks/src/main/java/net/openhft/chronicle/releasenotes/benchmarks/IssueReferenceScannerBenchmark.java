@@ -0,0 +1,181 @@
+package net.openhft.chronicle.releasenotes.benchmarks;
+
+import net.openhft.chronicle.releasenotes.connector.github.util.IntHashSet;
+import net.openhft.chronicle.releasenotes.connector.github.util.IssueReferenceScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures issue id extraction from commit messages, comparing the
+ * {@link IssueReferenceScanner} with the regex and split based parser
+ * it replaced.
+ *
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar IssueReferenceScanner}, which
+ * also reports allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueReferenceScannerBenchmark {
+
+    private static final List<String> CLOSING_KEYWORDS = Arrays.asList(
+        "close", "closes", "closed", "fix", "fixes", "fixed", "resolve", "resolves", "resolved"
+    );
+    private static final String REPOSITORY_URL = "https://github.com/OpenHFT/Chronicle-Release-Notes";
+
+    private static final String[] SUBJECTS = {
+        "Fix off-by-one in tag pagination",
+        "Bump jackson-databind from 2.15.2 to 2.15.3",
+        "Merge pull request #%d from OpenHFT/feature/release-index",
+        "Reduce allocations when formatting release notes",
+        "Update README.adoc",
+        "Handle annotated tags when resolving the previous release",
+    };
+
+    private static final String[] BODY_LINES = {
+        "The previous implementation fetched every page eagerly, which is wasteful for large repositories.",
+        "Co-authored-by: Jane Doe <jane.doe@example.com>",
+        "See the discussion in #%d for the background.",
+        "Signed-off-by: John Doe <john.doe@example.com>",
+        "This keeps the public API unchanged, only the internals were reworked.",
+    };
+
+    private static final String[] CLOSING_LINES = {
+        "Closes #%d",
+        "Fixes #%d, fixes #%d",
+        "Resolves " + REPOSITORY_URL + "/issues/%d",
+        "fixed #%d",
+    };
+
+    @Param({"1000"})
+    public int commitCount;
+
+    @Param({"false", "true"})
+    public boolean includeIssuesWithoutClosingKeyword;
+
+    private String[] messages;
+    private IssueReferenceScanner scanner;
+    private IntHashSet ids;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+
+        messages = new String[commitCount];
+
+        for (int i = 0; i < commitCount; i++) {
+            final StringBuilder message = new StringBuilder();
+
+            message.append(String.format(pick(random, SUBJECTS), random.nextInt(5000) + 1));
+
+            if (random.nextInt(4) > 0) {
+                message.append("\n\n");
+
+                final int lines = random.nextInt(4) + 1;
+
+                for (int line = 0; line < lines; line++) {
+                    message.append(String.format(pick(random, BODY_LINES), random.nextInt(5000) + 1)).append('\n');
+                }
+            }
+
+            if (random.nextInt(3) > 0) {
+                message.append('\n').append(String.format(pick(random, CLOSING_LINES), random.nextInt(5000) + 1, random.nextInt(5000) + 1));
+            }
+
+            messages[i] = random.nextBoolean() ? message.toString() : message.toString().replace("\n", "\r\n");
+        }
+
+        scanner = new IssueReferenceScanner(CLOSING_KEYWORDS, REPOSITORY_URL);
+        ids = new IntHashSet(commitCount);
+    }
+
+    @Benchmark
+    public int scanner() {
+        ids.clear();
+
+        for (final String message : messages) {
+            scanner.scan(message, includeIssuesWithoutClosingKeyword, ids);
+        }
+
+        return ids.size();
+    }
+
+    @Benchmark
+    public int regexSplit() {
+        final Set<Integer> result = new HashSet<>();
+
+        for (final String message : messages) {
+            regexSplit(message, includeIssuesWithoutClosingKeyword, result);
+        }
+
+        return result.size();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /*
+     * The parser used before IssueReferenceScanner, kept as a baseline.
+     */
+    private static void regexSplit(String message, boolean includeIssuesWithoutClosingKeyword, Set<Integer> ids) {
+        final String commitMessage = message
+            .replaceAll("\n", " ")
+            .replaceAll("\r", "")
+            .replaceAll(" +", " ")
+            .replaceAll(",", "");
+
+        final String[] tokens = commitMessage.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            if (!includeIssuesWithoutClosingKeyword) {
+                if (!CLOSING_KEYWORDS.contains(tokens[i].toLowerCase()) || i == tokens.length - 1) {
+                    continue;
+                }
+            }
+
+            final String token = includeIssuesWithoutClosingKeyword ? tokens[i] : tokens[i + 1];
+
+            final String issueId;
+
+            if (token.startsWith("#")) {
+                issueId = token.substring(1);
+            } else if (token.startsWith(REPOSITORY_URL)) {
+                final String[] split = token.split("/");
+                issueId = split[split.length - 2].equals("issues") ? split[split.length - 1] : null;
+            } else {
+                issueId = null;
+            }
+
+            if (isReference(issueId)) {
+                ids.add(Integer.valueOf(issueId));
+
+                if (!includeIssuesWithoutClosingKeyword) {
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static boolean isReference(String issueId) {
+        return issueId != null && !issueId.isEmpty() && issueId.chars().allMatch(Character::isDigit) && issueId.charAt(0) != '0';
+    }
+}
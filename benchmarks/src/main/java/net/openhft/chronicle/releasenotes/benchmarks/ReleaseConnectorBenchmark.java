@@ -0,0 +1,127 @@
+package net.openhft.chronicle.releasenotes.benchmarks;
+
+import net.openhft.chronicle.releasenotes.connector.ReleaseConnector.BranchReleaseOptions;
+import net.openhft.chronicle.releasenotes.connector.ReleaseConnector.ReleaseResult;
+import net.openhft.chronicle.releasenotes.connector.github.GitHubHttpClient;
+import net.openhft.chronicle.releasenotes.connector.github.GitHubReleaseConnector;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures a complete {@code createReleaseFromBranch} run against a
+ * {@link GitHubStubServer} serving a synthetic repository, spanning about
+ * a thousand commits between the two tags.
+ * <p>
+ * With {@code coldStart} every run starts with empty commit index and
+ * issue mirror directories, including the backfill of the mirror,
+ * otherwise the directories are kept between runs. The HTTP cache and the checkpoint journal are disabled. The stub
+ * server runs in the benchmark JVM, so its work is part of the reported
+ * allocation rate.
+ *
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar ReleaseConnector}, which
+ * also reports allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReleaseConnectorBenchmark {
+
+    private static final String INDEX_DIRECTORY_PROPERTY = "chronicle.releasenotes.index.dir";
+    private static final String MIRROR_DIRECTORY_PROPERTY = "chronicle.releasenotes.mirror.dir";
+    private static final String MIRROR_BACKFILL_PROPERTY = "chronicle.releasenotes.mirror.backfill";
+    private static final String CHECKPOINT_ENABLED_PROPERTY = "chronicle.releasenotes.checkpoint.enabled";
+
+    private static final BranchReleaseOptions OPTIONS = new BranchReleaseOptions.Builder()
+        .overrideRelease(true)
+        .build();
+
+    @Param({"true", "false"})
+    public boolean coldStart;
+
+    private SyntheticRepository repository;
+    private GitHubStubServer server;
+    private Path directory;
+    private int run;
+
+    private SyntheticRepository.Tag tag;
+    private SyntheticRepository.Tag endTag;
+
+    @Setup
+    public void setup() throws IOException {
+        repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(10_000)
+            .tags(100)
+            .issues(5_000)
+            .build();
+
+        server = new GitHubStubServer.Builder()
+            .repository(repository)
+            .build()
+            .start();
+
+        directory = Files.createTempDirectory("release-connector-benchmark");
+
+        tag = repository.getTags().get(10);
+        endTag = repository.getTags().get(20);
+
+        System.setProperty(GitHubHttpClient.API_URL_PROPERTY, server.getApiUrl());
+        System.setProperty(GitHubHttpClient.CACHE_SIZE_PROPERTY, "0");
+        System.setProperty(CHECKPOINT_ENABLED_PROPERTY, "false");
+        System.setProperty(INDEX_DIRECTORY_PROPERTY, directory.resolve("index").toString());
+        System.setProperty(MIRROR_DIRECTORY_PROPERTY, directory.resolve("mirror").toString());
+        System.setProperty(MIRROR_BACKFILL_PROPERTY, "true");
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        if (coldStart) {
+            final Path runDirectory = directory.resolve(String.valueOf(run++));
+
+            System.setProperty(INDEX_DIRECTORY_PROPERTY, runDirectory.resolve("index").toString());
+            System.setProperty(MIRROR_DIRECTORY_PROPERTY, runDirectory.resolve("mirror").toString());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ReleaseNotes createReleaseFromBranch() throws IOException {
+        final ReleaseResult<ReleaseNotes> result = new GitHubReleaseConnector("token")
+            .createReleaseFromBranch(repository.getFullName(), tag.getName(), endTag.getName(), repository.getDefaultBranch(), OPTIONS);
+
+        result.throwIfFail();
+
+        return result.getReleaseNotes();
+    }
+}
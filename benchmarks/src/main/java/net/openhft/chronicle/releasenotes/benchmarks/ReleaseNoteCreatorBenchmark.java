@@ -0,0 +1,93 @@
+package net.openhft.chronicle.releasenotes.benchmarks;
+
+import net.openhft.chronicle.releasenotes.creator.ReleaseNoteCreator;
+import net.openhft.chronicle.releasenotes.model.AggregatedReleaseNotes;
+import net.openhft.chronicle.releasenotes.model.Issue;
+import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering release notes with the markdown {@link ReleaseNoteCreator}.
+ * The aggregated notes spread the same issues over releases of
+ * {@value #ISSUES_PER_RELEASE} issues each. The {@code Into} variants
+ * stream the notes into a reused {@link StringBuilder}.
+ *
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar ReleaseNoteCreator}, which
+ * also reports allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReleaseNoteCreatorBenchmark {
+
+    private static final int ISSUES_PER_RELEASE = 100;
+
+    @Param({"10", "1000", "50000"})
+    public int issueCount;
+
+    private ReleaseNoteCreator creator;
+    private ReleaseNotes releaseNotes;
+    private AggregatedReleaseNotes aggregatedReleaseNotes;
+    private StringBuilder output;
+
+    @Setup
+    public void setup() {
+        final List<Issue> issues = SyntheticIssues.generate(issueCount, 42);
+        final List<ReleaseNotes> releases = new ArrayList<>();
+
+        for (int from = 0; from < issues.size(); from += ISSUES_PER_RELEASE) {
+            final String tag = "1." + releases.size() + ".0";
+
+            releases.add(new ReleaseNotes(tag, tag, issues.subList(from, Math.min(issues.size(), from + ISSUES_PER_RELEASE))));
+        }
+
+        creator = ReleaseNoteCreator.markdown();
+        releaseNotes = new ReleaseNotes("1.0.0", "1.0.0", issues);
+        aggregatedReleaseNotes = new AggregatedReleaseNotes("1.0.0", "1.0.0", releases);
+        output = new StringBuilder();
+    }
+
+    @Benchmark
+    public String formatReleaseNotes() {
+        return creator.formatReleaseNotes(releaseNotes);
+    }
+
+    @Benchmark
+    public String formatAggregatedReleaseNotes() {
+        return creator.formatAggregatedReleaseNotes(aggregatedReleaseNotes);
+    }
+
+    @Benchmark
+    public int formatReleaseNotesInto() throws IOException {
+        output.setLength(0);
+        creator.formatReleaseNotes(releaseNotes, output);
+
+        return output.length();
+    }
+
+    @Benchmark
+    public int formatAggregatedReleaseNotesInto() throws IOException {
+        output.setLength(0);
+        creator.formatAggregatedReleaseNotes(aggregatedReleaseNotes, output);
+
+        return output.length();
+    }
+}
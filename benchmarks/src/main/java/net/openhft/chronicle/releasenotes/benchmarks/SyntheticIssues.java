@@ -0,0 +1,76 @@
+package net.openhft.chronicle.releasenotes.benchmarks;
+
+import net.openhft.chronicle.releasenotes.model.Issue;
+import net.openhft.chronicle.releasenotes.model.SimpleIssue;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Generates issues resembling the ones of a real release: most have a
+ * single label, some have none or several, and a few carry a comment.
+ */
+final class SyntheticIssues {
+
+    private static final String REPOSITORY_URL = "https://github.com/OpenHFT/Chronicle-Release-Notes";
+
+    private static final String[] LABELS = {
+        "bug", "enhancement", "documentation", "dependencies", "performance", "refactoring"
+    };
+
+    private static final String[] TITLES = {
+        "Fix off-by-one in tag pagination",
+        "Reduce allocations when formatting release notes",
+        "Handle annotated tags when resolving the previous release",
+        "Bump jackson-databind from 2.15.2 to 2.15.3",
+        "Document the cache directory system property",
+        "Retry secondary rate limited requests",
+    };
+
+    private SyntheticIssues() {
+    }
+
+    static List<Issue> generate(int count, long seed) {
+        final Random random = new Random(seed);
+        final List<Issue> issues = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final int number = i + 1;
+            final List<String> labels;
+
+            switch (random.nextInt(10)) {
+                case 0:
+                    labels = Collections.emptyList();
+                    break;
+                case 1:
+                    labels = new ArrayList<>();
+                    labels.add(LABELS[random.nextInt(LABELS.length)]);
+                    labels.add(LABELS[random.nextInt(LABELS.length)]);
+                    break;
+                default:
+                    labels = Collections.singletonList(LABELS[random.nextInt(LABELS.length)]);
+            }
+
+            final Optional<String> comment = random.nextInt(5) == 0
+                ? Optional.of("Also affects the aggregated release notes")
+                : Optional.empty();
+
+            issues.add(new SimpleIssue(number, TITLES[random.nextInt(TITLES.length)], labels, comment, url(number)));
+        }
+
+        return issues;
+    }
+
+    private static URL url(int number) {
+        try {
+            return new URL(REPOSITORY_URL + "/issues/" + number);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -76,7 +77,7 @@ public final class AggregateCommand implements Runnable {
 
             final Map<String, List<String>> releaseRef = releases.stream()
                 .distinct()
-                .collect(groupingBy(ReleaseReference::getRepository, mapping(ReleaseReference::getRelease, Collectors.toList())));
+                .collect(groupingBy(ReleaseReference::getRepository, LinkedHashMap::new, mapping(ReleaseReference::getRelease, Collectors.toList())));
 
             final AggregateReleaseOptions releaseOptions = new AggregateReleaseOptions.Builder()
                 .overrideRelease(override)
@@ -76,6 +76,10 @@ public final class MigrateCommand implements Runnable {
             final MigrateResult migrateResult = migrateConnector
                 .migrateMilestones(repository, from, to, migrateOptions);
 
+            migrateResult.getMigratedIssues().forEach(issue -> System.out.println("Migrated issue #" + issue + " to milestone '" + to + "'"));
+            migrateResult.getFailedIssues().values().forEach(error -> System.err.println(
+                error.getCause() != null ? error.getMessage() + ": " + error.getCause().getMessage() : error.getMessage()));
+
             migrateResult.throwIfFail();
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,6 +1,7 @@
 package net.openhft.chronicle.releasenotes.cli.command;
 
 import net.openhft.chronicle.releasenotes.cli.util.Git;
+import net.openhft.chronicle.releasenotes.cli.util.LocalCommitSource;
 import net.openhft.chronicle.releasenotes.connector.ConnectorProvider;
 import net.openhft.chronicle.releasenotes.connector.ConnectorProviderFactory;
 import net.openhft.chronicle.releasenotes.connector.ConnectorProviderKeys;
@@ -12,13 +13,16 @@ import net.openhft.chronicle.releasenotes.model.FullIssue;
 import net.openhft.chronicle.releasenotes.model.Issue;
 import net.openhft.chronicle.releasenotes.model.IssueComment;
 import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
+import org.eclipse.jgit.lib.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Command(
     name = "release",
@@ -92,6 +96,13 @@ public final class ReleaseCommand implements Runnable {
     )
     private boolean allowPullRequests;
 
+    @Option(
+            names = {"-L", "--local"},
+            description = "Specifies that the commits of a BRANCH release should be read from the local clone instead of GitHub",
+            defaultValue = "false"
+    )
+    private boolean local;
+
     @Option(
             names = {"-N", "--comment"},
             description = "Specifies that resolved issues should get a notification comment about the release",
@@ -141,17 +152,22 @@ public final class ReleaseCommand implements Runnable {
             throw new RuntimeException("Using branch source, but no branch was specified: use --branch to specify target branch");
         }
 
-        final BranchReleaseOptions releaseOptions = new BranchReleaseOptions.Builder()
-            .ignoreLabels(ignoreLabels)
-            .overrideRelease(override)
-            .includeIssuesWithoutClosingKeyword(!requireCloseReference)
-            .includePullRequests(allowPullRequests)
-            .includeAdditionalContext(comment)
-            .build();
-
-        final ReleaseResult<ReleaseNotes> releaseResult = (endTag == null || endTag.isEmpty())
-            ? releaseConnector.createReleaseFromBranch(repository, tag, branch, releaseOptions)
-            : releaseConnector.createReleaseFromBranch(repository, tag, endTag, branch, releaseOptions);
+        final ReleaseResult<ReleaseNotes> releaseResult;
+
+        try (final Repository localRepository = local ? Git.openCurrentRepository() : null) {
+            final BranchReleaseOptions releaseOptions = new BranchReleaseOptions.Builder()
+                .ignoreLabels(ignoreLabels)
+                .overrideRelease(override)
+                .includeIssuesWithoutClosingKeyword(!requireCloseReference)
+                .includePullRequests(allowPullRequests)
+                .includeAdditionalContext(comment)
+                .commitSource(localRepository != null ? new LocalCommitSource(localRepository) : null)
+                .build();
+
+            releaseResult = (endTag == null || endTag.isEmpty())
+                ? releaseConnector.createReleaseFromBranch(repository, tag, branch, releaseOptions)
+                : releaseConnector.createReleaseFromBranch(repository, tag, endTag, branch, releaseOptions);
+        }
 
         releaseResult.throwIfFail();
 
@@ -159,6 +175,7 @@ public final class ReleaseCommand implements Runnable {
 
         if (comment) {
             ReleaseNotes releaseNotes = releaseResult.getReleaseNotes();
+            List<Integer> issuesToComment = new ArrayList<>();
             ISSUE: for (Issue issue : releaseNotes.getIssues()) {
                 if (issue instanceof FullIssue) {
                     for (IssueComment existing : ((FullIssue) issue).getComments()) {
@@ -166,15 +183,31 @@ public final class ReleaseCommand implements Runnable {
                             continue ISSUE;
                     }
 
-                    ReleaseResult<Issue> commentedIssue = releaseConnector.createIssueComment(repository, issue.getNumber(),
-                            String.format("%s [%s](%s)", RELEASE_MARKER, releaseNotes.getTitle(),
-                                    releaseResult.getReleaseUrl()));
+                    issuesToComment.add(issue.getNumber());
+                }
+            }
 
-                    commentedIssue.throwIfFail();
+            if (issuesToComment.isEmpty()) {
+                return;
+            }
 
-                    System.out.println("Commented issue " + commentedIssue.getReleaseUrl());
+            Map<Integer, ReleaseResult<Issue>> commentedIssues = releaseConnector.createIssueComments(repository, issuesToComment,
+                    String.format("%s [%s](%s)", RELEASE_MARKER, releaseNotes.getTitle(),
+                            releaseResult.getReleaseUrl()));
+
+            int failed = 0;
+            for (Map.Entry<Integer, ReleaseResult<Issue>> commentedIssue : commentedIssues.entrySet()) {
+                if (commentedIssue.getValue().isSuccess()) {
+                    System.out.println("Commented issue " + commentedIssue.getValue().getReleaseUrl());
+                } else {
+                    failed++;
+                    System.err.println(commentedIssue.getValue().getError().getMessage());
                 }
             }
+
+            if (failed != 0) {
+                throw new RuntimeException("Failed to comment " + failed + " of " + commentedIssues.size() + " issues");
+            }
         }
     }
 
@@ -43,28 +43,40 @@ public final class Git {
             return configuredRepository;
         }
 
-        String currentDir = System.getProperty("user.dir");
+        final Repository repository = openCurrentRepository();
 
-        try {
-            final Repository repository = new FileRepositoryBuilder()
-                .setGitDir(new File(currentDir + "/.git"))
-                .readEnvironment()
-                .findGitDir()
-                .build();
+        final String origin = repository.getConfig().getString(CONFIG_REMOTE_SECTION, "origin", "url");
 
-            final String origin = repository.getConfig().getString(CONFIG_REMOTE_SECTION, "origin", "url");
+        if (origin == null) {
+            throw new RuntimeException("Origin not found for git repository");
+        }
+
+        final GitUrlParser.ParseResult parseResult = GitUrlParser.parseUrl(origin);
 
-            if (origin == null) {
-                throw new RuntimeException("Origin not found for git repository");
-            }
+        if (parseResult.getGitProvider() == GitProvider.UNKNOWN) {
+            throw new RuntimeException("Unsupported git provider (url = " + origin + ")");
+        }
 
-            final GitUrlParser.ParseResult parseResult = GitUrlParser.parseUrl(origin);
+        return parseResult.getOwner() + "/" + parseResult.getRepository();
+    }
 
-            if (parseResult.getGitProvider() == GitProvider.UNKNOWN) {
-                throw new RuntimeException("Unsupported git provider (url = " + origin + ")");
-            }
+    /**
+     * Opens the git repository containing the current directory.
+     *
+     * A {@link RuntimeException} is thrown if the current
+     * directory is not a git repository.
+     *
+     * @return the opened repository
+     */
+    public static Repository openCurrentRepository() {
+        final String currentDir = System.getProperty("user.dir");
 
-            return parseResult.getOwner() + "/" + parseResult.getRepository();
+        try {
+            return new FileRepositoryBuilder()
+                .setGitDir(new File(currentDir + "/.git"))
+                .readEnvironment()
+                .findGitDir()
+                .build();
         } catch (IOException e) {
             throw new RuntimeException("Git repository not found in directory '" + currentDir + "'");
         }
@@ -0,0 +1,157 @@
+package net.openhft.chronicle.releasenotes.cli.util;
+
+import static java.util.Objects.requireNonNull;
+
+import net.openhft.chronicle.releasenotes.connector.CommitSource;
+import net.openhft.chronicle.releasenotes.model.Commit;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link CommitSource} which walks the commits of a release in a local
+ * clone of the repository instead of fetching them from the remote.
+ */
+public final class LocalCommitSource implements CommitSource {
+
+    private final Repository repository;
+
+    public LocalCommitSource(Repository repository) {
+        this.repository = requireNonNull(repository);
+    }
+
+    @Override
+    public List<Commit> getCommits(String branch, String startTag, String endTag) {
+        requireNonNull(branch);
+        requireNonNull(startTag);
+
+        try (final RevWalk revWalk = new RevWalk(repository)) {
+            final RevCommit startCommit = getTagCommit(revWalk, startTag);
+            final RevCommit branchCommit = getBranchCommit(revWalk, branch);
+
+            if (!revWalk.isMergedInto(startCommit, branchCommit)) {
+                throw new RuntimeException("Tag '" + startTag + "' not found on branch '" + branch + "'");
+            }
+
+            revWalk.reset();
+
+            final RevCommit endCommit = endTag != null
+                ? getTagCommit(revWalk, endTag)
+                : getPreviousTagCommit(revWalk, startCommit, startTag);
+
+            if (endTag != null && !endCommit.equals(startCommit)) {
+                revWalk.reset();
+
+                if (revWalk.isMergedInto(startCommit, endCommit)) {
+                    throw new RuntimeException("Start tag '" + startTag + "' is behind end tag '" + endTag + "'");
+                }
+
+                revWalk.reset();
+
+                if (!revWalk.isMergedInto(endCommit, branchCommit)) {
+                    throw new RuntimeException("Tag '" + endTag + "' not found on branch '" + branch + "'");
+                }
+            }
+
+            revWalk.reset();
+            revWalk.markStart(startCommit);
+
+            if (endCommit != null) {
+                revWalk.markUninteresting(endCommit);
+            }
+
+            final List<Commit> commits = new ArrayList<>();
+
+            for (final RevCommit commit : revWalk) {
+                commits.add(new Commit(commit.getName(), commit.getFullMessage()));
+            }
+
+            return commits;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to walk commits for branch '" + branch + "' in local repository '" + repository.getDirectory() + "'");
+        }
+    }
+
+    @Override
+    public String getRevision() {
+        try {
+            final MessageDigest digest = Constants.newMessageDigest();
+
+            for (final Ref ref : repository.getRefDatabase().getRefs()) {
+                if (ref.getObjectId() != null) {
+                    digest.update(Constants.encode(ref.getName()));
+                    digest.update(Constants.encode(ref.getObjectId().name()));
+                }
+            }
+
+            return ObjectId.fromRaw(digest.digest()).name();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read references of local repository '" + repository.getDirectory() + "'");
+        }
+    }
+
+    private RevCommit getTagCommit(RevWalk revWalk, String tag) throws IOException {
+        final Ref ref = repository.exactRef(Constants.R_TAGS + tag);
+
+        if (ref == null) {
+            throw new RuntimeException("Tag '" + tag + "' not found in local repository");
+        }
+
+        return revWalk.parseCommit(ref.getObjectId());
+    }
+
+    private RevCommit getBranchCommit(RevWalk revWalk, String branch) throws IOException {
+        Ref ref = repository.findRef(branch);
+
+        if (ref == null) {
+            ref = repository.findRef(Constants.DEFAULT_REMOTE_NAME + "/" + branch);
+        }
+
+        if (ref == null) {
+            throw new RuntimeException("Branch '" + branch + "' not found in local repository");
+        }
+
+        return revWalk.parseCommit(ref.getObjectId());
+    }
+
+    private RevCommit getPreviousTagCommit(RevWalk revWalk, RevCommit startCommit, String startTag) throws IOException {
+        final Map<ObjectId, List<String>> tagsByCommit = new HashMap<>();
+
+        for (final Ref ref : repository.getRefDatabase().getRefsByPrefix(Constants.R_TAGS)) {
+            final Ref peeledRef = repository.getRefDatabase().peel(ref);
+            final ObjectId commitId = peeledRef.getPeeledObjectId() != null ? peeledRef.getPeeledObjectId() : ref.getObjectId();
+
+            tagsByCommit.computeIfAbsent(commitId, id -> new ArrayList<>()).add(ref.getName().substring(Constants.R_TAGS.length()));
+        }
+
+        revWalk.markStart(startCommit);
+
+        for (final RevCommit commit : revWalk) {
+            for (final String tag : tagsByCommit.getOrDefault(commit, Collections.emptyList())) {
+                if (!tag.equals(startTag)) {
+                    return commit;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalCommitSource{" +
+                "repository=" + repository.getDirectory() +
+                '}';
+    }
+}
@@ -0,0 +1,114 @@
+package net.openhft.chronicle.releasenotes.cli.util;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.model.Commit;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class LocalCommitSourceTest {
+
+    @TempDir
+    Path directory;
+
+    private org.eclipse.jgit.api.Git git;
+    private LocalCommitSource commitSource;
+
+    private final List<RevCommit> commits = new ArrayList<>();
+
+    /*
+     * master: c0 (1.0.0) - c1 - c2 (annotated 1.1.0) - c3 - c4 (1.2.0)
+     * ea:     branches off c2 - c5 (1.1.1)
+     */
+    @BeforeEach
+    void setUp() throws GitAPIException {
+        git = org.eclipse.jgit.api.Git.init().setDirectory(directory.toFile()).call();
+        commitSource = new LocalCommitSource(git.getRepository());
+
+        commit("Initial commit");
+        git.tag().setName("1.0.0").setAnnotated(false).call();
+        commit("Fix #1");
+        commit("Closes #2");
+        git.tag().setName("1.1.0").setMessage("Release 1.1.0").call();
+        commit("Fix #3");
+        commit("Fix #4");
+        git.tag().setName("1.2.0").setAnnotated(false).call();
+
+        git.checkout().setCreateBranch(true).setName("ea").setStartPoint("1.1.0").call();
+        commit("Fix #5");
+        git.tag().setName("1.1.1").setAnnotated(false).call();
+    }
+
+    @AfterEach
+    void tearDown() {
+        git.close();
+    }
+
+    @Test
+    void getCommitsSincePreviousTag() {
+        assertEquals(shas(4, 3), shas(commitSource.getCommits("master", "1.2.0", null)));
+        assertEquals(shas(2, 1), shas(commitSource.getCommits("master", "1.1.0", null)));
+        assertEquals(shas(5), shas(commitSource.getCommits("ea", "1.1.1", null)));
+    }
+
+    @Test
+    void getCommitsUntilEndTag() {
+        assertEquals(shas(4, 3, 2, 1), shas(commitSource.getCommits("master", "1.2.0", "1.0.0")));
+        assertEquals("Fix #4", commitSource.getCommits("master", "1.2.0", "1.0.0").get(0).getMessage());
+    }
+
+    @Test
+    void getCommitsUntilInitialCommit() {
+        assertEquals(shas(0), shas(commitSource.getCommits("master", "1.0.0", null)));
+    }
+
+    @Test
+    void rejectTagsOutsideBranch() {
+        assertThrows(RuntimeException.class, () -> commitSource.getCommits("master", "1.1.1", null));
+        assertThrows(RuntimeException.class, () -> commitSource.getCommits("master", "2.0.0", null));
+        assertThrows(RuntimeException.class, () -> commitSource.getCommits("develop", "1.2.0", null));
+        assertThrows(RuntimeException.class, () -> commitSource.getCommits("ea", "1.1.1", "1.2.0"));
+    }
+
+    @Test
+    void rejectStartTagBehindEndTag() {
+        assertTrue(commitSource.getCommits("master", "1.1.0", "1.1.0").isEmpty());
+        assertThrows(RuntimeException.class, () -> commitSource.getCommits("master", "1.1.0", "1.2.0"));
+    }
+
+    @Test
+    void changeRevisionWithReferences() throws GitAPIException {
+        final String revision = commitSource.getRevision();
+
+        assertEquals(revision, commitSource.getRevision());
+
+        commit("Fix #6");
+
+        assertNotEquals(revision, commitSource.getRevision());
+    }
+
+    private void commit(String message) throws GitAPIException {
+        commits.add(git.commit().setMessage(message).setAllowEmpty(true).call());
+    }
+
+    private List<String> shas(int... indices) {
+        return Arrays.stream(indices).mapToObj(index -> commits.get(index).getName()).collect(toList());
+    }
+
+    private static List<String> shas(List<Commit> commits) {
+        return commits.stream().map(Commit::getSHA1).collect(toList());
+    }
+}
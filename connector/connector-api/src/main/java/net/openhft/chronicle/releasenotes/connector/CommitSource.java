@@ -0,0 +1,41 @@
+package net.openhft.chronicle.releasenotes.connector;
+
+import net.openhft.chronicle.releasenotes.model.Commit;
+
+import java.util.List;
+
+/**
+ * Provides the commits of a branch release from a source other than the
+ * connector's remote API, for example a local clone of the repository.
+ * When a {@link CommitSource} is set on the
+ * {@link ReleaseConnector.BranchReleaseOptions}, connectors only contact
+ * the remote for issue metadata and for writing the release.
+ */
+@FunctionalInterface
+public interface CommitSource {
+
+    /**
+     * Returns all commits on {@code branch} which are reachable from
+     * {@code startTag} but not from {@code endTag}, newest first. If
+     * {@code endTag} is {@code null}, the range ends at the tag preceding
+     * {@code startTag}, or at the initial commit if there is none.
+     *
+     * @param branch reference
+     * @param startTag name
+     * @param endTag name, may be {@code null}
+     * @return commits in the range, newest first
+     */
+    List<Commit> getCommits(String branch, String startTag, String endTag);
+
+    /**
+     * Returns a value which changes whenever the commits returned by this
+     * source may change, for example a hash of the references of a local
+     * clone. Failed releases reading from a source without a revision are
+     * not resumed.
+     *
+     * @return revision of the source, or {@code null} if unknown
+     */
+    default String getRevision() {
+        return null;
+    }
+}
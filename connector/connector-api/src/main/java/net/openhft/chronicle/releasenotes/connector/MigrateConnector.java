@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Mislav Milicevic
@@ -14,7 +17,8 @@ public interface MigrateConnector extends Connector, AutoCloseable {
     /**
      * Migrates all issues from a list of a source milestones into a
      * singular target milestone. The results of the operation are
-     * stored and returned in a {@link MigrateResult}.
+     * stored and returned in a {@link MigrateResult}, which reports
+     * the outcome of every individual issue.
      *
      * @param fromMilestones a list source milestones
      * @param toMilestone destination milestones
@@ -39,12 +43,31 @@ public interface MigrateConnector extends Connector, AutoCloseable {
      * @author Mislav Milicevic
      */
     class MigrateResult {
+        private final List<Integer> migratedIssues;
+        private final Map<Integer, MigrateException> failedIssues;
         private final MigrateException error;
 
-        private MigrateResult(MigrateException error) {
+        private MigrateResult(List<Integer> migratedIssues, Map<Integer, MigrateException> failedIssues, MigrateException error) {
+            this.migratedIssues = migratedIssues;
+            this.failedIssues = failedIssues;
             this.error = error;
         }
 
+        /**
+         * Returns the numbers of all issues that were successfully migrated.
+         */
+        public List<Integer> getMigratedIssues() {
+            return migratedIssues;
+        }
+
+        /**
+         * Returns the errors of all issues that failed to migrate, keyed
+         * by issue number.
+         */
+        public Map<Integer, MigrateException> getFailedIssues() {
+            return failedIssues;
+        }
+
         public MigrateException getError() {
             return error;
         }
@@ -64,18 +87,37 @@ public interface MigrateConnector extends Connector, AutoCloseable {
         }
 
         public static MigrateResult success() {
-            return new MigrateResult(null);
+            return new MigrateResult(Collections.emptyList(), Collections.emptyMap(), null);
         }
 
         public static MigrateResult fail(MigrateException error) {
             requireNonNull(error);
 
-            return new MigrateResult(error);
+            return new MigrateResult(Collections.emptyList(), Collections.emptyMap(), error);
         }
 
         public static MigrateResult fail(Throwable error) {
             return fail(new MigrateException(error.getMessage()));
         }
+
+        /**
+         * Creates a result from the outcome of every migrated issue. The
+         * result is a failure if at least one issue failed to migrate.
+         */
+        public static MigrateResult of(List<Integer> migratedIssues, Map<Integer, MigrateException> failedIssues) {
+            requireNonNull(migratedIssues);
+            requireNonNull(failedIssues);
+
+            final MigrateException error = failedIssues.isEmpty()
+                ? null
+                : new MigrateException("Failed to migrate " + failedIssues.size() + " of " + (migratedIssues.size() + failedIssues.size()) + " issues");
+
+            return new MigrateResult(
+                Collections.unmodifiableList(new ArrayList<>(migratedIssues)),
+                Collections.unmodifiableMap(new LinkedHashMap<>(failedIssues)),
+                error
+            );
+        }
     }
 
     /**
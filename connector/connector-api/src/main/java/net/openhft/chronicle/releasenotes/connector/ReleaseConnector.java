@@ -9,6 +9,8 @@ import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -211,6 +213,28 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
      */
     ReleaseResult<Issue> createIssueComment(String repository, int number, String message);
 
+    /**
+     * Creates the same comment in every issue identified by {@code numbers}.
+     *
+     * A failure to comment one issue doesn't prevent the remaining issues
+     * from being commented. Implementations may send the comments in
+     * batches, the default implementation comments one issue at a time.
+     *
+     * @param repository reference
+     * @param numbers issues
+     * @param message markdown
+     * @return {@link ReleaseResult} per issue number, in the order of {@code numbers}
+     */
+    default Map<Integer, ReleaseResult<Issue>> createIssueComments(String repository, Collection<Integer> numbers, String message) {
+        final Map<Integer, ReleaseResult<Issue>> results = new LinkedHashMap<>();
+
+        for (final Integer number : numbers) {
+            results.put(number, createIssueComment(repository, number, message));
+        }
+
+        return results;
+    }
+
     @Override
     default void close() throws Exception {
 
@@ -353,7 +377,8 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
             false,
             false,
             false,
-            false
+            false,
+            null
         );
 
         private final String title;
@@ -362,14 +387,16 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
         private final boolean includeIssuesWithoutClosingKeyword;
         private final boolean includePullRequests;
         private final boolean includeAdditionalContext;
+        private final CommitSource commitSource;
 
-        private BranchReleaseOptions(String title, List<String> ignoredLabels, boolean overrideRelease, boolean includeIssuesWithoutClosingKeyword, boolean includePullRequests, boolean includeAdditionalContext) {
+        private BranchReleaseOptions(String title, List<String> ignoredLabels, boolean overrideRelease, boolean includeIssuesWithoutClosingKeyword, boolean includePullRequests, boolean includeAdditionalContext, CommitSource commitSource) {
             this.title = title;
             this.ignoredLabels = ignoredLabels;
             this.overrideRelease = overrideRelease;
             this.includeIssuesWithoutClosingKeyword = includeIssuesWithoutClosingKeyword;
             this.includePullRequests = includePullRequests;
             this.includeAdditionalContext = includeAdditionalContext;
+            this.commitSource = commitSource;
         }
 
         public String getTitle() {
@@ -396,6 +423,14 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
             return includeAdditionalContext;
         }
 
+        /**
+         * Returns the {@link CommitSource} used to read the commits of the
+         * release, or {@code null} if they are read from the remote.
+         */
+        public CommitSource getCommitSource() {
+            return commitSource;
+        }
+
         @Override
         public String toString() {
             return "BranchReleaseOptions{" +
@@ -405,6 +440,7 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
                     ", includeIssuesWithoutClosingKeyword=" + includeIssuesWithoutClosingKeyword +
                     ", includePullRequests=" + includePullRequests +
                     ", includeAdditionalContext=" + includeAdditionalContext +
+                    ", commitSource=" + commitSource +
                     '}';
         }
 
@@ -416,6 +452,7 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
             private boolean includeIssuesWithoutClosingKeyword;
             private boolean includePullRequests;
             private boolean includeAdditionalContext;
+            private CommitSource commitSource;
 
             public Builder title(String title) {
                 this.title = title;
@@ -460,6 +497,12 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
                 return this;
             }
 
+            public Builder commitSource(CommitSource commitSource) {
+                this.commitSource = commitSource;
+
+                return this;
+            }
+
             public BranchReleaseOptions build() {
                 return new BranchReleaseOptions(
                     title,
@@ -467,7 +510,8 @@ public interface ReleaseConnector extends Connector, AutoCloseable {
                     overrideRelease,
                     includeIssuesWithoutClosingKeyword,
                     includePullRequests,
-                    includeAdditionalContext
+                    includeAdditionalContext,
+                    commitSource
                 );
             }
         }
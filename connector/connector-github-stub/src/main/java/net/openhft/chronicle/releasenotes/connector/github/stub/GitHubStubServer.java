@@ -0,0 +1,536 @@
+package net.openhft.chronicle.releasenotes.connector.github.stub;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An embedded HTTP server implementing the parts of the GitHub REST and
+ * GraphQL APIs used by the GitHub connectors, backed by
+ * {@link SyntheticRepository synthetic repositories}.
+ * <p>
+ * The connectors are pointed at the server by setting the
+ * {@code chronicle.releasenotes.github.api.url} system property to
+ * {@link #getApiUrl()}. Like GitHub, the server rejects requests without
+ * an {@code Authorization} header with a {@code 401 Unauthorized}. When a
+ * {@link Builder#token(String) token} is set, requests must carry exactly
+ * that token.
+ * <p>
+ * To exercise the connectors under realistic conditions the server can
+ * delay every response, cap the page size of paginated endpoints, fail a
+ * share of the requests with a {@code 502 Bad Gateway} or a secondary rate
+ * limit, and enforce a primary rate limit per resource ({@code core},
+ * {@code search} and {@code graphql}), reported through the usual
+ * {@code X-RateLimit-*} headers.
+ */
+public final class GitHubStubServer implements AutoCloseable {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Map<String, SyntheticRepository> repositories;
+    private final String token;
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final int maxPageSize;
+    private final double serverErrorRate;
+    private final double secondaryRateLimitRate;
+    private final int rateLimit;
+    private final long rateLimitWindowMillis;
+    private final Random random;
+
+    private final Map<String, RateLimitWindow> rateLimitWindows = new HashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedFailureCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private RestApi restApi;
+    private GraphQLApi graphQLApi;
+
+    private GitHubStubServer(Builder builder, Map<String, SyntheticRepository> repositories) {
+        this.repositories = repositories;
+        this.token = builder.token;
+        this.latencyMillis = builder.latencyMillis;
+        this.latencyJitterMillis = builder.latencyJitterMillis;
+        this.maxPageSize = builder.maxPageSize;
+        this.serverErrorRate = builder.serverErrorRate;
+        this.secondaryRateLimitRate = builder.secondaryRateLimitRate;
+        this.rateLimit = builder.rateLimit;
+        this.rateLimitWindowMillis = builder.rateLimitWindowMillis;
+        this.random = new Random(builder.seed);
+    }
+
+    /**
+     * Starts the server on a free port of the loopback interface.
+     *
+     * @return this server
+     */
+    public synchronized GitHubStubServer start() {
+        if (server != null) {
+            throw new RuntimeException("Stub server has already been started");
+        }
+
+        // without TCP_NODELAY every response is delayed by Nagle's algorithm, which dwarfs any configured latency
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stub server", e);
+        }
+
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "github-stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        restApi = new RestApi(repositories, getApiUrl(), maxPageSize);
+        graphQLApi = new GraphQLApi(repositories, maxPageSize);
+
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        return this;
+    }
+
+    /**
+     * Returns the base url of the REST API, the GraphQL API is served at
+     * {@code /graphql} below it.
+     *
+     * @return the REST API url
+     */
+    public String getApiUrl() {
+        if (server == null) {
+            throw new RuntimeException("Stub server has not been started");
+        }
+
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the amount of requests received so far, including the ones
+     * which were rejected.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the amount of requests which were failed on purpose, with a
+     * server error or a rate limit.
+     */
+    public long getInjectedFailureCount() {
+        return injectedFailureCount.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.incrementAndGet();
+
+            delay();
+
+            respond(exchange, dispatch(exchange));
+        } catch (RuntimeException e) {
+            respond(exchange, StubResponse.error(500, "Stub server failed: " + e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private StubResponse dispatch(HttpExchange exchange) throws IOException {
+        final StubRequest request = StubRequest.of(exchange);
+        final String resource = request.getPath().equals("/graphql") ? "graphql" : request.getPath().startsWith("/search/") ? "search" : "core";
+
+        if (request.getAuthorization() == null) {
+            return StubResponse.error(401, "Requires authentication");
+        }
+
+        if (token != null && !request.getAuthorization().equals("token " + token) && !request.getAuthorization().equals("Bearer " + token)) {
+            return StubResponse.error(401, "Bad credentials");
+        }
+
+        if (random.nextDouble() < serverErrorRate) {
+            injectedFailureCount.incrementAndGet();
+            return StubResponse.error(502, "Server Error");
+        }
+
+        if (random.nextDouble() < secondaryRateLimitRate) {
+            injectedFailureCount.incrementAndGet();
+            return StubResponse.error(403, "You have exceeded a secondary rate limit. Please wait a few minutes before you try again.")
+                .header("Retry-After", "1");
+        }
+
+        final RateLimitWindow window = rateLimit > 0 ? consume(resource) : null;
+
+        if (window != null && window.exhausted) {
+            injectedFailureCount.incrementAndGet();
+            return window.addHeaders(StubResponse.error(403, "API rate limit exceeded"));
+        }
+
+        final StubResponse response = "graphql".equals(resource) ? graphQLApi.handle(request) : restApi.handle(request);
+
+        return window != null ? window.addHeaders(response) : response;
+    }
+
+    private synchronized RateLimitWindow consume(String resource) {
+        final long now = System.currentTimeMillis();
+        final RateLimitWindow window = rateLimitWindows.get(resource);
+
+        if (window == null || now >= window.resetMillis) {
+            final RateLimitWindow next = new RateLimitWindow(resource, rateLimit, now + rateLimitWindowMillis);
+
+            rateLimitWindows.put(resource, next);
+
+            return next.consume();
+        }
+
+        return window.consume();
+    }
+
+    private void delay() {
+        final long millis = latencyMillis + (latencyJitterMillis > 0 ? (long) (random.nextDouble() * latencyJitterMillis) : 0);
+
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, StubResponse response) throws IOException {
+        final byte[] body = MAPPER.writeValueAsBytes(response.getBody());
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+
+        exchange.sendResponseHeaders(response.getStatus(), body.length);
+
+        try (final OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * The primary rate limit of a single resource within one window.
+     */
+    private static final class RateLimitWindow {
+
+        private final String resource;
+        private final int limit;
+        private final long resetMillis;
+
+        private int used;
+        private boolean exhausted;
+
+        RateLimitWindow(String resource, int limit, long resetMillis) {
+            this.resource = resource;
+            this.limit = limit;
+            this.resetMillis = resetMillis;
+        }
+
+        /**
+         * Takes a request from the window and returns a snapshot of it.
+         */
+        RateLimitWindow consume() {
+            final RateLimitWindow snapshot = new RateLimitWindow(resource, limit, resetMillis);
+
+            snapshot.exhausted = used >= limit;
+            used = Math.min(limit, used + 1);
+            snapshot.used = used;
+
+            return snapshot;
+        }
+
+        StubResponse addHeaders(StubResponse response) {
+            return response
+                .header("X-RateLimit-Limit", String.valueOf(limit))
+                .header("X-RateLimit-Remaining", String.valueOf(limit - used))
+                .header("X-RateLimit-Used", String.valueOf(used))
+                .header("X-RateLimit-Reset", String.valueOf((resetMillis + 999) / 1000))
+                .header("X-RateLimit-Resource", resource);
+        }
+    }
+
+    /**
+     * A parsed request.
+     */
+    static final class StubRequest {
+
+        private final String method;
+        private final String path;
+        private final String authorization;
+        private final Map<String, String> parameters;
+        private final JsonNode body;
+
+        private StubRequest(String method, String path, String authorization, Map<String, String> parameters, JsonNode body) {
+            this.method = method;
+            this.path = path;
+            this.authorization = authorization;
+            this.parameters = parameters;
+            this.body = body;
+        }
+
+        static StubRequest of(HttpExchange exchange) throws IOException {
+            final Map<String, String> parameters = new LinkedHashMap<>();
+            final String query = exchange.getRequestURI().getRawQuery();
+
+            if (query != null) {
+                for (final String parameter : query.split("&")) {
+                    final int separator = parameter.indexOf('=');
+
+                    if (separator > 0) {
+                        parameters.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+                    } else if (!parameter.isEmpty()) {
+                        parameters.put(decode(parameter), "");
+                    }
+                }
+            }
+
+            JsonNode body = MAPPER.createObjectNode();
+
+            try (final InputStream input = exchange.getRequestBody()) {
+                final JsonNode parsed = MAPPER.readTree(input);
+
+                if (parsed != null && !parsed.isMissingNode()) {
+                    body = parsed;
+                }
+            }
+
+            return new StubRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), exchange.getRequestHeaders().getFirst("Authorization"), parameters, body);
+        }
+
+        String getMethod() {
+            return method;
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the {@code Authorization} header, or {@code null} if the
+         * request didn't carry one.
+         */
+        String getAuthorization() {
+            return authorization;
+        }
+
+        String getParameter(String name, String defaultValue) {
+            return parameters.getOrDefault(name, defaultValue);
+        }
+
+        Map<String, String> getParameters() {
+            return parameters;
+        }
+
+        JsonNode getBody() {
+            return body;
+        }
+
+        private static String decode(String value) throws IOException {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        }
+    }
+
+    /**
+     * A response, rendered as JSON.
+     */
+    static final class StubResponse {
+
+        private final int status;
+        private final Object body;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        StubResponse(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static StubResponse ok(Object body) {
+            return new StubResponse(200, body);
+        }
+
+        static StubResponse error(int status, String message) {
+            return new StubResponse(status, MAPPER.createObjectNode()
+                .put("message", message)
+                .put("documentation_url", "https://docs.github.com/rest"));
+        }
+
+        static StubResponse notFound() {
+            return error(404, "Not Found");
+        }
+
+        StubResponse header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        Object getBody() {
+            return body;
+        }
+
+        Map<String, String> getHeaders() {
+            return headers;
+        }
+    }
+
+    public static final class Builder {
+        private final List<SyntheticRepository> repositories = new ArrayList<>();
+
+        private String token;
+
+        private long latencyMillis = 0;
+        private long latencyJitterMillis = 0;
+        private int maxPageSize = 100;
+        private double serverErrorRate = 0;
+        private double secondaryRateLimitRate = 0;
+        private int rateLimit = 0;
+        private long rateLimitWindowMillis = 0;
+        private long seed = 1;
+
+        public Builder repository(SyntheticRepository repository) {
+            requireNonNull(repository);
+
+            repositories.add(repository);
+            return this;
+        }
+
+        /**
+         * Only accepts requests authorized with the given token, sent as
+         * {@code token <token>} or {@code Bearer <token>}. Without a token
+         * any {@code Authorization} header is accepted.
+         */
+        public Builder token(String token) {
+            this.token = requireNonNull(token);
+            return this;
+        }
+
+        /**
+         * Delays every response by {@code latencyMillis}, plus a random
+         * amount of up to {@code jitterMillis}.
+         */
+        public Builder latency(long latencyMillis, long jitterMillis) {
+            if (latencyMillis < 0 || jitterMillis < 0) {
+                throw new IllegalArgumentException("Latency must not be negative");
+            }
+
+            this.latencyMillis = latencyMillis;
+            this.latencyJitterMillis = jitterMillis;
+            return this;
+        }
+
+        /**
+         * Caps the page size of all paginated endpoints, regardless of
+         * the requested page size. GitHub allows up to 100 items per page.
+         */
+        public Builder maxPageSize(int maxPageSize) {
+            if (maxPageSize <= 0) {
+                throw new IllegalArgumentException("Page size must be positive");
+            }
+
+            this.maxPageSize = maxPageSize;
+            return this;
+        }
+
+        /**
+         * Fails the given share of requests with a {@code 502 Bad Gateway}.
+         */
+        public Builder serverErrorRate(double serverErrorRate) {
+            this.serverErrorRate = requireRatio(serverErrorRate);
+            return this;
+        }
+
+        /**
+         * Rejects the given share of requests with a secondary rate limit,
+         * asking the client to retry after a second.
+         */
+        public Builder secondaryRateLimitRate(double secondaryRateLimitRate) {
+            this.secondaryRateLimitRate = requireRatio(secondaryRateLimitRate);
+            return this;
+        }
+
+        /**
+         * Allows {@code limit} requests per resource within each window of
+         * {@code windowMillis}. Further requests are rejected until the
+         * window resets. Without a rate limit no rate limit headers are sent.
+         */
+        public Builder rateLimit(int limit, long windowMillis) {
+            if (limit <= 0 || windowMillis <= 0) {
+                throw new IllegalArgumentException("Rate limit and window must be positive");
+            }
+
+            this.rateLimit = limit;
+            this.rateLimitWindowMillis = windowMillis;
+            return this;
+        }
+
+        /**
+         * Sets the seed deciding which requests are delayed or failed.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public GitHubStubServer build() {
+            final Map<String, SyntheticRepository> byName = new LinkedHashMap<>();
+
+            for (final SyntheticRepository repository : repositories) {
+                byName.put(repository.getFullName(), repository);
+            }
+
+            return new GitHubStubServer(this, byName);
+        }
+
+        private static double requireRatio(double value) {
+            if (value < 0 || value > 1) {
+                throw new IllegalArgumentException("Rate must be between 0 and 1");
+            }
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package net.openhft.chronicle.releasenotes.connector.github.stub;
+
+import static net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.MAPPER;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.StubRequest;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.StubResponse;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Comment;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Commit;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Issue;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Tag;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The GraphQL endpoint of the stub server.
+ * <p>
+ * Instead of executing arbitrary documents, the endpoint recognizes the
+ * operations sent by the GitHub connectors: the {@code GetTags} and
+ * {@code GetTag} queries, aliased {@code issueOrPullRequest} and
+ * {@code object} lookups, and aliased {@code addComment} mutations. Every
+ * object in a response carries its {@code __typename}, which the generated
+ * Apollo operations rely on.
+ */
+final class GraphQLApi {
+
+    private static final int MAX_CONNECTION_SIZE = 100;
+    private static final int COMMENT_COUNT = 100;
+
+    private static final Pattern ISSUE_LOOKUP = Pattern.compile("(\\w+)\\s*:\\s*issueOrPullRequest\\(\\s*number\\s*:\\s*(\\d+)\\s*\\)");
+    private static final Pattern OBJECT_LOOKUP = Pattern.compile("(\\w+)\\s*:\\s*object\\(\\s*oid\\s*:\\s*\"(\\w+)\"\\s*\\)");
+    private static final Pattern ADD_COMMENT = Pattern.compile("(\\w+)\\s*:\\s*addComment\\(\\s*input\\s*:\\s*\\{\\s*subjectId\\s*:\\s*\\$(\\w+)\\s*,\\s*body\\s*:\\s*\\$(\\w+)\\s*}\\s*\\)");
+
+    private final Map<String, SyntheticRepository> repositories;
+    private final int maxPageSize;
+
+    GraphQLApi(Map<String, SyntheticRepository> repositories, int maxPageSize) {
+        this.repositories = repositories;
+        this.maxPageSize = maxPageSize;
+    }
+
+    StubResponse handle(StubRequest request) {
+        if (!request.getMethod().equals("POST")) {
+            return StubResponse.notFound();
+        }
+
+        final String document = request.getBody().path("query").asText("");
+        final JsonNode variables = request.getBody().path("variables");
+
+        if (document.contains("addComment(")) {
+            return addComments(document, variables);
+        }
+
+        final SyntheticRepository repository = repositories.get(variables.path("owner").asText() + "/" + variables.path("repository").asText());
+
+        if (repository == null) {
+            final ObjectNode body = MAPPER.createObjectNode();
+
+            body.putObject("data").putNull("repository");
+            error(body, "NOT_FOUND", "Could not resolve to a Repository with the name '" + variables.path("repository").asText() + "'.", "repository");
+
+            return StubResponse.ok(body);
+        }
+
+        if (document.contains("refs(")) {
+            return getTags(repository, variables);
+        }
+
+        if (document.contains("ref(")) {
+            return getTag(repository, variables);
+        }
+
+        if (document.contains("issueOrPullRequest(")) {
+            return getIssues(repository, document);
+        }
+
+        if (document.contains("object(")) {
+            return getAssociatedPullRequests(repository, document);
+        }
+
+        final ObjectNode body = MAPPER.createObjectNode();
+        error(body, "UNSUPPORTED", "The stub server doesn't support this operation");
+
+        return StubResponse.ok(body);
+    }
+
+    private StubResponse getTags(SyntheticRepository repository, JsonNode variables) {
+        final int amount = Math.min(variables.path("amount").asInt(MAX_CONNECTION_SIZE), Math.min(MAX_CONNECTION_SIZE, maxPageSize));
+        final int from = variables.hasNonNull("cursor") ? Integer.parseInt(variables.path("cursor").asText()) : 0;
+        final List<Tag> tags = repository.getTags();
+        final int to = Math.min(tags.size(), from + amount);
+
+        final ObjectNode body = MAPPER.createObjectNode();
+        final ObjectNode refs = repositoryNode(body).putObject("refs").put("__typename", "RefConnection");
+
+        refs.putObject("pageInfo")
+            .put("__typename", "PageInfo")
+            .put("hasNextPage", to < tags.size())
+            .put("endCursor", to > from ? String.valueOf(to) : null);
+
+        final ArrayNode edges = refs.putArray("edges");
+
+        for (int i = from; i < to; i++) {
+            final ObjectNode node = edges.addObject().put("__typename", "RefEdge").putObject("node");
+
+            ref(node, tags.get(i));
+        }
+
+        return StubResponse.ok(body);
+    }
+
+    private StubResponse getTag(SyntheticRepository repository, JsonNode variables) {
+        final String qualifiedName = variables.path("qualifiedName").asText();
+        final Optional<Tag> tag = qualifiedName.startsWith("refs/tags/")
+            ? repository.getTag(qualifiedName.substring("refs/tags/".length()))
+            : Optional.empty();
+
+        final ObjectNode body = MAPPER.createObjectNode();
+        final ObjectNode repositoryNode = repositoryNode(body);
+
+        if (tag.isPresent()) {
+            ref(repositoryNode.putObject("ref"), tag.get());
+        } else {
+            repositoryNode.putNull("ref");
+        }
+
+        return StubResponse.ok(body);
+    }
+
+    private StubResponse getIssues(SyntheticRepository repository, String document) {
+        final boolean comments = document.contains("comments(");
+        final ObjectNode body = MAPPER.createObjectNode();
+        final ObjectNode repositoryNode = repositoryNode(body);
+        final Matcher matcher = ISSUE_LOOKUP.matcher(document);
+
+        while (matcher.find()) {
+            final String alias = matcher.group(1);
+            final int number = Integer.parseInt(matcher.group(2));
+            final Optional<Issue> issue = repository.getIssue(number);
+
+            if (!issue.isPresent()) {
+                repositoryNode.putNull(alias);
+                error(body, "NOT_FOUND", "Could not resolve to an issue or pull request with the number of " + number + ".", "repository", alias);
+                continue;
+            }
+
+            final ObjectNode node = repositoryNode.putObject(alias).put("__typename", issue.get().isPullRequest() ? "PullRequest" : "Issue");
+
+            if (comments) {
+                comments(node, issue.get());
+            } else {
+                issue(node, repository, issue.get());
+            }
+        }
+
+        return StubResponse.ok(body);
+    }
+
+    private StubResponse getAssociatedPullRequests(SyntheticRepository repository, String document) {
+        final ObjectNode body = MAPPER.createObjectNode();
+        final ObjectNode repositoryNode = repositoryNode(body);
+        final Matcher matcher = OBJECT_LOOKUP.matcher(document);
+
+        while (matcher.find()) {
+            final Optional<Commit> commit = repository.getCommit(matcher.group(2));
+
+            if (!commit.isPresent()) {
+                repositoryNode.putNull(matcher.group(1));
+                continue;
+            }
+
+            final ArrayNode nodes = repositoryNode.putObject(matcher.group(1))
+                .put("__typename", "Commit")
+                .putObject("associatedPullRequests")
+                .put("__typename", "PullRequestConnection")
+                .putArray("nodes");
+
+            commit.get().getPullRequest().ifPresent(pullRequest -> nodes.addObject()
+                .put("__typename", "PullRequest")
+                .put("number", pullRequest.getNumber())
+                .put("headRefName", pullRequest.getHeadRefName()));
+        }
+
+        return StubResponse.ok(body);
+    }
+
+    private StubResponse addComments(String document, JsonNode variables) {
+        final Map<String, Issue> issuesByNodeId = new HashMap<>();
+        final Map<Issue, SyntheticRepository> owners = new HashMap<>();
+
+        for (final SyntheticRepository repository : repositories.values()) {
+            for (final Issue issue : repository.getIssues()) {
+                issuesByNodeId.put(issue.getNodeId(), issue);
+                owners.put(issue, repository);
+            }
+        }
+
+        final ObjectNode body = MAPPER.createObjectNode();
+        final ObjectNode data = body.putObject("data");
+        final Matcher matcher = ADD_COMMENT.matcher(document);
+
+        while (matcher.find()) {
+            final String alias = matcher.group(1);
+            final String subjectId = variables.path(matcher.group(2)).asText();
+            final Issue issue = issuesByNodeId.get(subjectId);
+
+            if (issue == null) {
+                data.putNull(alias);
+                error(body, "NOT_FOUND", "Could not resolve to a node with the global id of '" + subjectId + "'", alias);
+                continue;
+            }
+
+            issue.addComment(new Comment(owners.get(issue).nextId(), variables.path(matcher.group(3)).asText(), Instant.now()));
+
+            data.putObject(alias).put("__typename", "AddCommentPayload").putNull("clientMutationId");
+        }
+
+        return StubResponse.ok(body);
+    }
+
+    private static ObjectNode repositoryNode(ObjectNode body) {
+        return body.putObject("data").putObject("repository").put("__typename", "Repository");
+    }
+
+    private static void ref(ObjectNode node, Tag tag) {
+        node.put("__typename", "Ref").put("name", tag.getName());
+
+        final ObjectNode target = node.putObject("target");
+
+        if (tag.isAnnotated()) {
+            target.put("__typename", "Tag")
+                .putObject("target")
+                .put("__typename", "Commit")
+                .put("oid", tag.getCommit().getSha());
+        } else {
+            target.put("__typename", "Commit").put("oid", tag.getCommit().getSha());
+        }
+    }
+
+    private static void issue(ObjectNode node, SyntheticRepository repository, Issue issue) {
+        node.put("id", issue.getNodeId())
+            .put("number", issue.getNumber())
+            .put("title", issue.getTitle())
+            .put("url", repository.getHtmlUrl() + (issue.isPullRequest() ? "/pull/" : "/issues/") + issue.getNumber())
+            .put("state", !issue.isClosed() ? "OPEN" : issue.isPullRequest() ? "MERGED" : "CLOSED");
+
+        final List<String> labels = new ArrayList<>(issue.getLabels());
+        Collections.sort(labels);
+
+        final ArrayNode nodes = node.putObject("labels").put("__typename", "LabelConnection").putArray("nodes");
+        labels.forEach(label -> nodes.addObject().put("__typename", "Label").put("name", label));
+    }
+
+    private static void comments(ObjectNode node, Issue issue) {
+        final List<Comment> comments = issue.getComments();
+        final ArrayNode nodes = node.putObject("comments").put("__typename", "IssueCommentConnection").putArray("nodes");
+
+        for (final Comment comment : comments.subList(Math.max(0, comments.size() - COMMENT_COUNT), comments.size())) {
+            nodes.addObject()
+                .put("__typename", "IssueComment")
+                .put("body", comment.getBody())
+                .put("createdAt", comment.getCreatedAt().toString());
+        }
+    }
+
+    private static void error(ObjectNode body, String type, String message, String... path) {
+        final ArrayNode errors = body.has("errors") ? (ArrayNode) body.get("errors") : body.putArray("errors");
+        final ObjectNode error = errors.addObject().put("type", type).put("message", message);
+        final ArrayNode errorPath = error.putArray("path");
+
+        for (final String element : path) {
+            errorPath.add(element);
+        }
+    }
+}
@@ -0,0 +1,757 @@
+package net.openhft.chronicle.releasenotes.connector.github.stub;
+
+import static net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.MAPPER;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.StubRequest;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer.StubResponse;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Comment;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Commit;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Issue;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Milestone;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository.Release;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The REST endpoints of the stub server: repositories, branches, commits,
+ * comparisons, releases, milestones, issues, comments and issue search.
+ * List endpoints are paginated with {@code per_page} and {@code page}
+ * parameters and a {@code Link} header, like the GitHub API.
+ */
+final class RestApi {
+
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int SEARCH_RESULT_LIMIT = 1000;
+
+    private static final Pattern SEARCH_QUALIFIER = Pattern.compile("(-?)([a-z]+):(?:\"([^\"]*)\"|(\\S+))");
+
+    private final Map<String, SyntheticRepository> repositories;
+    private final String apiUrl;
+    private final int maxPageSize;
+
+    RestApi(Map<String, SyntheticRepository> repositories, String apiUrl, int maxPageSize) {
+        this.repositories = repositories;
+        this.apiUrl = apiUrl;
+        this.maxPageSize = maxPageSize;
+    }
+
+    StubResponse handle(StubRequest request) {
+        final String[] path = request.getPath().substring(1).split("/", -1);
+
+        if (path.length == 1 && path[0].isEmpty()) {
+            return StubResponse.ok(MAPPER.createObjectNode().put("current_user_url", apiUrl + "/user"));
+        }
+
+        if (path.length == 2 && path[0].equals("search") && path[1].equals("issues") && isGet(request)) {
+            return searchIssues(request);
+        }
+
+        if (path.length < 3 || !path[0].equals("repos")) {
+            return StubResponse.notFound();
+        }
+
+        final SyntheticRepository repository = repositories.get(path[1] + "/" + path[2]);
+
+        if (repository == null) {
+            return StubResponse.notFound();
+        }
+
+        if (path.length == 3) {
+            return isGet(request) ? StubResponse.ok(repository(repository)) : StubResponse.notFound();
+        }
+
+        final List<String> resource = Arrays.asList(path).subList(3, path.length);
+
+        switch (resource.get(0)) {
+            case "branches":
+                return resource.size() > 1 && isGet(request) ? branch(repository, String.join("/", resource.subList(1, resource.size()))) : StubResponse.notFound();
+            case "commits":
+                if (!isGet(request)) {
+                    return StubResponse.notFound();
+                }
+
+                return resource.size() == 1 ? commits(request, repository) : commit(repository, String.join("/", resource.subList(1, resource.size())));
+            case "compare":
+                return resource.size() > 1 && isGet(request) ? compare(request, repository, String.join("/", resource.subList(1, resource.size()))) : StubResponse.notFound();
+            case "releases":
+                return releases(request, repository, resource);
+            case "milestones":
+                return resource.size() == 1 && isGet(request) ? milestones(request, repository) : StubResponse.notFound();
+            case "issues":
+                return issues(request, repository, resource);
+            default:
+                return StubResponse.notFound();
+        }
+    }
+
+    private StubResponse branch(SyntheticRepository repository, String name) {
+        final Commit head = repository.getBranches().get(name);
+
+        if (head == null) {
+            return StubResponse.notFound();
+        }
+
+        final ObjectNode branch = MAPPER.createObjectNode().put("name", name);
+
+        branch.putObject("commit")
+            .put("sha", head.getSha())
+            .put("url", repositoryUrl(repository) + "/commits/" + head.getSha());
+        branch.put("protected", false);
+
+        return StubResponse.ok(branch);
+    }
+
+    private StubResponse commits(StubRequest request, SyntheticRepository repository) {
+        final Optional<Commit> head = repository.resolve(request.getParameter("sha", repository.getDefaultBranch()));
+
+        if (!head.isPresent()) {
+            return StubResponse.notFound();
+        }
+
+        final Instant since = parseDate(request.getParameter("since", null));
+        final Instant until = parseDate(request.getParameter("until", null));
+        final Page page = page(request);
+
+        final List<Commit> commits = new ArrayList<>(page.size);
+        int skipped = 0;
+        boolean hasNext = false;
+
+        // commits are walked newest first, so the walk ends with the first commit before 'since'
+        for (Commit commit = head.get(); commit != null; commit = commit.getParent().orElse(null)) {
+            if (since != null && commit.getDate().isBefore(since)) {
+                break;
+            }
+
+            if (until != null && commit.getDate().isAfter(until)) {
+                continue;
+            }
+
+            if (skipped < page.from) {
+                skipped++;
+                continue;
+            }
+
+            if (commits.size() == page.size) {
+                hasNext = true;
+                break;
+            }
+
+            commits.add(commit);
+        }
+
+        final ArrayNode body = MAPPER.createArrayNode();
+        commits.forEach(commit -> body.add(commit(repository, commit, false)));
+
+        return page.link(request, hasNext, StubResponse.ok(body));
+    }
+
+    private StubResponse commit(SyntheticRepository repository, String ref) {
+        return repository.resolve(ref)
+            .map(commit -> StubResponse.ok(commit(repository, commit, true)))
+            .orElseGet(() -> StubResponse.error(422, "No commit found for SHA: " + ref));
+    }
+
+    private StubResponse compare(StubRequest request, SyntheticRepository repository, String spec) {
+        final int separator = spec.indexOf("...");
+
+        if (separator < 0) {
+            return StubResponse.notFound();
+        }
+
+        final Optional<Commit> base = repository.resolve(spec.substring(0, separator));
+        final Optional<Commit> head = repository.resolve(spec.substring(separator + 3));
+
+        if (!base.isPresent() || !head.isPresent()) {
+            return StubResponse.notFound();
+        }
+
+        final Commit mergeBase = SyntheticRepository.mergeBase(base.get(), head.get());
+        final List<Commit> ahead = SyntheticRepository.commitsBetween(mergeBase, head.get());
+        final int behindBy = SyntheticRepository.commitsBetween(mergeBase, base.get()).size();
+
+        final String status;
+
+        if (ahead.isEmpty() && behindBy == 0) {
+            status = "identical";
+        } else if (behindBy == 0) {
+            status = "ahead";
+        } else if (ahead.isEmpty()) {
+            status = "behind";
+        } else {
+            status = "diverged";
+        }
+
+        final String url = repositoryUrl(repository) + "/compare/" + spec;
+        final ObjectNode compare = MAPPER.createObjectNode()
+            .put("url", url)
+            .put("html_url", repository.getHtmlUrl() + "/compare/" + spec)
+            .put("permalink_url", repository.getHtmlUrl() + "/compare/" + mergeBase.getSha() + "..." + head.get().getSha())
+            .put("diff_url", repository.getHtmlUrl() + "/compare/" + spec + ".diff")
+            .put("patch_url", repository.getHtmlUrl() + "/compare/" + spec + ".patch")
+            .put("status", status)
+            .put("ahead_by", ahead.size())
+            .put("behind_by", behindBy)
+            .put("total_commits", ahead.size());
+
+        compare.set("base_commit", commit(repository, base.get(), false));
+        compare.set("merge_base_commit", commit(repository, mergeBase, false));
+
+        final Page page = page(request);
+        final ArrayNode commits = compare.putArray("commits");
+
+        page.slice(ahead).forEach(commit -> commits.add(commit(repository, commit, false)));
+        compare.putArray("files");
+
+        return page.link(request, page.hasNext(ahead.size()), StubResponse.ok(compare));
+    }
+
+    private StubResponse releases(StubRequest request, SyntheticRepository repository, List<String> resource) {
+        if (resource.size() == 1 && isGet(request)) {
+            final List<Release> releases = new ArrayList<>(repository.getReleases());
+            final Page page = page(request);
+            final ArrayNode body = MAPPER.createArrayNode();
+
+            // newest first
+            Collections.reverse(releases);
+            page.slice(releases).forEach(release -> body.add(release(repository, release)));
+
+            return page.link(request, page.hasNext(releases.size()), StubResponse.ok(body));
+        }
+
+        if (resource.size() == 1 && request.getMethod().equals("POST")) {
+            final String tagName = request.getBody().path("tag_name").asText("");
+
+            if (tagName.isEmpty()) {
+                return StubResponse.error(422, "Validation Failed");
+            }
+
+            synchronized (repository) {
+                if (repository.getRelease(tagName).isPresent()) {
+                    return StubResponse.error(422, "Validation Failed: tag_name already_exists");
+                }
+
+                final Release release = repository.createRelease(tagName, request.getBody().path("name").asText(tagName), request.getBody().path("body").asText(""));
+
+                return new StubResponse(201, release(repository, release));
+            }
+        }
+
+        if (resource.size() > 2 && resource.get(1).equals("tags") && isGet(request)) {
+            return repository.getRelease(String.join("/", resource.subList(2, resource.size())))
+                .map(release -> StubResponse.ok(release(repository, release)))
+                .orElseGet(StubResponse::notFound);
+        }
+
+        if (resource.size() == 2) {
+            final Optional<Release> release = parseLong(resource.get(1)).flatMap(repository::getRelease);
+
+            if (!release.isPresent()) {
+                return StubResponse.notFound();
+            }
+
+            if (request.getMethod().equals("PATCH")) {
+                release.get().update(text(request.getBody(), "name"), text(request.getBody(), "body"));
+            } else if (!isGet(request)) {
+                return StubResponse.notFound();
+            }
+
+            return StubResponse.ok(release(repository, release.get()));
+        }
+
+        return StubResponse.notFound();
+    }
+
+    private StubResponse milestones(StubRequest request, SyntheticRepository repository) {
+        final String state = request.getParameter("state", "open");
+        final List<Milestone> milestones = repository.getMilestones().stream()
+            .filter(milestone -> state.equals("all") || milestone.isOpen() == state.equals("open"))
+            .collect(Collectors.toList());
+
+        final Map<Integer, int[]> issueCounts = new HashMap<>();
+
+        for (final Issue issue : repository.getIssues()) {
+            issue.getMilestone().ifPresent(milestone -> issueCounts.computeIfAbsent(milestone.getNumber(), number -> new int[2])[issue.isClosed() ? 1 : 0]++);
+        }
+
+        final Page page = page(request);
+        final ArrayNode body = MAPPER.createArrayNode();
+
+        page.slice(milestones).forEach(milestone -> body.add(milestone(repository, milestone, issueCounts.getOrDefault(milestone.getNumber(), new int[2]))));
+
+        return page.link(request, page.hasNext(milestones.size()), StubResponse.ok(body));
+    }
+
+    private StubResponse issues(StubRequest request, SyntheticRepository repository, List<String> resource) {
+        if (resource.size() == 1) {
+            return isGet(request) ? listIssues(request, repository) : StubResponse.notFound();
+        }
+
+        final Optional<Issue> issue = parseLong(resource.get(1)).flatMap(number -> repository.getIssue((int) (long) number));
+
+        if (!issue.isPresent()) {
+            return StubResponse.notFound();
+        }
+
+        if (resource.size() == 2) {
+            if (request.getMethod().equals("PATCH")) {
+                final JsonNode milestone = request.getBody().get("milestone");
+
+                if (milestone != null && milestone.isNull()) {
+                    issue.get().setMilestone(null);
+                } else if (milestone != null) {
+                    final Optional<Milestone> milestoneRef = repository.getMilestone(milestone.asInt());
+
+                    if (!milestoneRef.isPresent()) {
+                        return StubResponse.error(422, "Validation Failed: milestone invalid");
+                    }
+
+                    issue.get().setMilestone(milestoneRef.get());
+                }
+            } else if (!isGet(request)) {
+                return StubResponse.notFound();
+            }
+
+            return StubResponse.ok(issue(repository, issue.get()));
+        }
+
+        if (resource.size() == 3 && resource.get(2).equals("comments")) {
+            if (request.getMethod().equals("POST")) {
+                final Comment comment = new Comment(repository.nextId(), request.getBody().path("body").asText(""), Instant.now());
+
+                issue.get().addComment(comment);
+
+                return new StubResponse(201, comment(repository, issue.get(), comment));
+            }
+
+            if (isGet(request)) {
+                final List<Comment> comments = issue.get().getComments();
+                final Page page = page(request);
+                final ArrayNode body = MAPPER.createArrayNode();
+
+                page.slice(comments).forEach(comment -> body.add(comment(repository, issue.get(), comment)));
+
+                return page.link(request, page.hasNext(comments.size()), StubResponse.ok(body));
+            }
+        }
+
+        return StubResponse.notFound();
+    }
+
+    private StubResponse listIssues(StubRequest request, SyntheticRepository repository) {
+        final String state = request.getParameter("state", "open");
+        final String milestone = request.getParameter("milestone", "*");
+        final Instant since = parseDate(request.getParameter("since", null));
+        final List<String> labels = request.getParameters().containsKey("labels")
+            ? Arrays.asList(request.getParameter("labels", "").split(","))
+            : Collections.emptyList();
+
+        Predicate<Issue> filter = issue -> state.equals("all") || issue.isClosed() == state.equals("closed");
+
+        if (milestone.equals("none")) {
+            filter = filter.and(issue -> !issue.getMilestone().isPresent());
+        } else if (!milestone.equals("*")) {
+            filter = filter.and(issue -> issue.getMilestone().map(Milestone::getNumber).map(String::valueOf).orElse("").equals(milestone));
+        }
+
+        if (since != null) {
+            filter = filter.and(issue -> !issue.getUpdatedAt().isBefore(since));
+        }
+
+        if (!labels.isEmpty()) {
+            filter = filter.and(issue -> issue.getLabels().containsAll(labels));
+        }
+
+        Comparator<Issue> order = request.getParameter("sort", "created").equals("updated")
+            ? Comparator.comparing(Issue::getUpdatedAt).thenComparingInt(Issue::getNumber)
+            : Comparator.comparingInt(Issue::getNumber);
+
+        if (!request.getParameter("direction", "desc").equals("asc")) {
+            order = order.reversed();
+        }
+
+        final List<Issue> issues = repository.getIssues().stream()
+            .filter(filter)
+            .sorted(order)
+            .collect(Collectors.toList());
+
+        final Page page = page(request);
+        final ArrayNode body = MAPPER.createArrayNode();
+
+        page.slice(issues).forEach(issue -> body.add(issue(repository, issue)));
+
+        return page.link(request, page.hasNext(issues.size()), StubResponse.ok(body));
+    }
+
+    /**
+     * Supports the {@code repo}, {@code milestone}, {@code label}, {@code is},
+     * {@code state} and {@code type} qualifiers, free text is ignored. Like
+     * GitHub, only the first {@value #SEARCH_RESULT_LIMIT} results can be
+     * paged through.
+     */
+    private StubResponse searchIssues(StubRequest request) {
+        final Matcher matcher = SEARCH_QUALIFIER.matcher(request.getParameter("q", ""));
+
+        SyntheticRepository repository = null;
+        Predicate<Issue> filter = issue -> true;
+
+        while (matcher.find()) {
+            final boolean negated = !matcher.group(1).isEmpty();
+            final String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+
+            Predicate<Issue> qualifier;
+
+            switch (matcher.group(2)) {
+                case "repo":
+                    repository = repositories.get(value);
+                    continue;
+                case "milestone":
+                    qualifier = issue -> issue.getMilestone().map(Milestone::getTitle).orElse("").equals(value);
+                    break;
+                case "label":
+                    qualifier = issue -> issue.getLabels().contains(value);
+                    break;
+                case "is":
+                case "state":
+                case "type":
+                    qualifier = searchState(value);
+                    break;
+                default:
+                    continue;
+            }
+
+            filter = filter.and(negated ? qualifier.negate() : qualifier);
+        }
+
+        if (repository == null) {
+            return StubResponse.error(422, "Validation Failed: a repo qualifier is required");
+        }
+
+        final SyntheticRepository searchedRepository = repository;
+        final List<Issue> issues = repository.getIssues().stream()
+            .filter(filter)
+            .sorted(Comparator.comparingInt(Issue::getNumber).reversed())
+            .collect(Collectors.toList());
+
+        final List<Issue> accessible = issues.subList(0, Math.min(issues.size(), SEARCH_RESULT_LIMIT));
+        final Page page = page(request);
+
+        final ObjectNode result = MAPPER.createObjectNode()
+            .put("total_count", issues.size())
+            .put("incomplete_results", false);
+        final ArrayNode items = result.putArray("items");
+
+        page.slice(accessible).forEach(issue -> items.add(issue(searchedRepository, issue).put("score", 1.0)));
+
+        return page.link(request, page.hasNext(accessible.size()), StubResponse.ok(result));
+    }
+
+    private static Predicate<Issue> searchState(String value) {
+        switch (value) {
+            case "open":
+                return issue -> !issue.isClosed();
+            case "closed":
+                return Issue::isClosed;
+            case "issue":
+                return issue -> !issue.isPullRequest();
+            case "pr":
+            case "pull-request":
+                return Issue::isPullRequest;
+            default:
+                return issue -> true;
+        }
+    }
+
+    private ObjectNode repository(SyntheticRepository repository) {
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("id", Math.abs(repository.getFullName().hashCode()))
+            .put("node_id", "R_" + repository.getFullName())
+            .put("name", repository.getName())
+            .put("full_name", repository.getFullName());
+
+        node.set("owner", user(repository.getOwner()));
+
+        return node
+            .put("private", false)
+            .put("fork", false)
+            .put("archived", false)
+            .put("has_issues", true)
+            .put("html_url", repository.getHtmlUrl())
+            .put("url", repositoryUrl(repository))
+            .put("default_branch", repository.getDefaultBranch())
+            .put("created_at", repository.getCommits().get(0).getDate().toString());
+    }
+
+    private ObjectNode commit(SyntheticRepository repository, Commit commit, boolean detailed) {
+        final String url = repositoryUrl(repository) + "/commits/" + commit.getSha();
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("sha", commit.getSha())
+            .put("node_id", "C_" + commit.getSha())
+            .put("url", url)
+            .put("html_url", repository.getHtmlUrl() + "/commit/" + commit.getSha());
+
+        final ObjectNode info = node.putObject("commit").put("url", repositoryUrl(repository) + "/git/commits/" + commit.getSha());
+
+        info.putObject("author").put("name", "Stub").put("email", "stub@example.com").put("date", commit.getDate().toString());
+        info.putObject("committer").put("name", "Stub").put("email", "stub@example.com").put("date", commit.getDate().toString());
+        info.put("message", commit.getMessage());
+        info.putObject("tree").put("sha", commit.getSha()).put("url", repositoryUrl(repository) + "/git/trees/" + commit.getSha());
+        info.put("comment_count", 0);
+
+        node.putNull("author");
+        node.putNull("committer");
+
+        final ArrayNode parents = node.putArray("parents");
+
+        commit.getParent().ifPresent(parent -> parents.addObject()
+            .put("sha", parent.getSha())
+            .put("url", repositoryUrl(repository) + "/commits/" + parent.getSha())
+            .put("html_url", repository.getHtmlUrl() + "/commit/" + parent.getSha()));
+
+        if (detailed) {
+            node.putObject("stats").put("total", 0).put("additions", 0).put("deletions", 0);
+            node.putArray("files");
+        }
+
+        return node;
+    }
+
+    private ObjectNode release(SyntheticRepository repository, Release release) {
+        final String url = repositoryUrl(repository) + "/releases/" + release.getId();
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("id", release.getId())
+            .put("node_id", "RE_" + release.getId())
+            .put("url", url)
+            .put("html_url", repository.getHtmlUrl() + "/releases/tag/" + release.getTagName())
+            .put("assets_url", url + "/assets")
+            .put("upload_url", url + "/assets{?name,label}")
+            .put("tag_name", release.getTagName())
+            .put("target_commitish", repository.getDefaultBranch())
+            .put("name", release.getName())
+            .put("body", release.getBody())
+            .put("draft", false)
+            .put("prerelease", false)
+            .put("created_at", release.getCreatedAt().toString())
+            .put("published_at", release.getCreatedAt().toString());
+
+        node.set("author", user(repository.getOwner()));
+        node.putArray("assets");
+
+        return node;
+    }
+
+    private ObjectNode milestone(SyntheticRepository repository, Milestone milestone, int[] issueCounts) {
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("url", repositoryUrl(repository) + "/milestones/" + milestone.getNumber())
+            .put("html_url", repository.getHtmlUrl() + "/milestone/" + milestone.getNumber())
+            .put("labels_url", repositoryUrl(repository) + "/milestones/" + milestone.getNumber() + "/labels")
+            .put("id", milestone.getNumber())
+            .put("node_id", "MI_" + milestone.getNumber())
+            .put("number", milestone.getNumber())
+            .put("title", milestone.getTitle())
+            .put("state", milestone.isOpen() ? "open" : "closed")
+            .put("open_issues", issueCounts[0])
+            .put("closed_issues", issueCounts[1])
+            .put("created_at", milestone.getCreatedAt().toString())
+            .put("updated_at", milestone.getCreatedAt().toString());
+
+        node.set("creator", user(repository.getOwner()));
+        node.putNull("due_on");
+        node.putNull("description");
+
+        return node;
+    }
+
+    private ObjectNode issue(SyntheticRepository repository, Issue issue) {
+        final String url = repositoryUrl(repository) + "/issues/" + issue.getNumber();
+        final String htmlUrl = repository.getHtmlUrl() + (issue.isPullRequest() ? "/pull/" : "/issues/") + issue.getNumber();
+
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("id", issue.getNumber())
+            .put("node_id", issue.getNodeId())
+            .put("url", url)
+            .put("repository_url", repositoryUrl(repository))
+            .put("comments_url", url + "/comments")
+            .put("html_url", htmlUrl)
+            .put("number", issue.getNumber())
+            .put("state", issue.isClosed() ? "closed" : "open")
+            .put("title", issue.getTitle())
+            .put("body", "")
+            .put("locked", false)
+            .put("comments", issue.getComments().size())
+            .put("created_at", issue.getCreatedAt().toString())
+            .put("updated_at", issue.getUpdatedAt().toString())
+            .put("closed_at", issue.getClosedAt().map(Instant::toString).orElse(null))
+            .put("author_association", "MEMBER");
+
+        node.set("user", user(repository.getOwner()));
+
+        final ArrayNode labels = node.putArray("labels");
+
+        for (final String label : issue.getLabels()) {
+            labels.addObject()
+                .put("id", Math.abs(label.hashCode()))
+                .put("node_id", "LA_" + label)
+                .put("url", repositoryUrl(repository) + "/labels/" + encode(label))
+                .put("name", label)
+                .put("color", "ededed")
+                .put("default", false);
+        }
+
+        node.putNull("assignee");
+        node.putArray("assignees");
+
+        if (issue.getMilestone().isPresent()) {
+            node.set("milestone", milestone(repository, issue.getMilestone().get(), new int[2]));
+        } else {
+            node.putNull("milestone");
+        }
+
+        if (issue.isPullRequest()) {
+            node.putObject("pull_request")
+                .put("url", repositoryUrl(repository) + "/pulls/" + issue.getNumber())
+                .put("html_url", htmlUrl)
+                .put("diff_url", htmlUrl + ".diff")
+                .put("patch_url", htmlUrl + ".patch");
+        }
+
+        return node;
+    }
+
+    private ObjectNode comment(SyntheticRepository repository, Issue issue, Comment comment) {
+        final ObjectNode node = MAPPER.createObjectNode()
+            .put("id", comment.getId())
+            .put("node_id", comment.getNodeId())
+            .put("url", repositoryUrl(repository) + "/issues/comments/" + comment.getId())
+            .put("html_url", repository.getHtmlUrl() + "/issues/" + issue.getNumber() + "#issuecomment-" + comment.getId())
+            .put("issue_url", repositoryUrl(repository) + "/issues/" + issue.getNumber())
+            .put("body", comment.getBody())
+            .put("created_at", comment.getCreatedAt().toString())
+            .put("updated_at", comment.getCreatedAt().toString())
+            .put("author_association", "MEMBER");
+
+        node.set("user", user(repository.getOwner()));
+
+        return node;
+    }
+
+    private ObjectNode user(String login) {
+        return MAPPER.createObjectNode()
+            .put("login", login)
+            .put("id", Math.abs(login.hashCode()))
+            .put("node_id", "U_" + login)
+            .put("type", "User")
+            .put("url", apiUrl + "/users/" + login)
+            .put("html_url", "https://github.com/" + login);
+    }
+
+    private String repositoryUrl(SyntheticRepository repository) {
+        return apiUrl + "/repos/" + repository.getFullName();
+    }
+
+    private Page page(StubRequest request) {
+        final int requested = parseLong(request.getParameter("per_page", String.valueOf(DEFAULT_PAGE_SIZE))).orElse((long) DEFAULT_PAGE_SIZE).intValue();
+        final int number = parseLong(request.getParameter("page", "1")).orElse(1L).intValue();
+
+        return new Page(Math.max(1, number), Math.max(1, Math.min(requested, maxPageSize)));
+    }
+
+    private static boolean isGet(StubRequest request) {
+        return request.getMethod().equals("GET") || request.getMethod().equals("HEAD");
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    private static Optional<Long> parseLong(String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Instant parseDate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A single page of a list endpoint.
+     */
+    private final class Page {
+
+        private final int number;
+        private final int size;
+        private final int from;
+
+        Page(int number, int size) {
+            this.number = number;
+            this.size = size;
+            this.from = (int) Math.min(Integer.MAX_VALUE, (long) (number - 1) * size);
+        }
+
+        <T> List<T> slice(List<T> items) {
+            return items.subList(Math.min(from, items.size()), (int) Math.min(items.size(), (long) from + size));
+        }
+
+        boolean hasNext(int total) {
+            return (long) from + size < total;
+        }
+
+        /**
+         * Adds a {@code Link} header pointing to the next page, if there is one.
+         */
+        StubResponse link(StubRequest request, boolean hasNext, StubResponse response) {
+            if (!hasNext) {
+                return response;
+            }
+
+            final StringBuilder next = new StringBuilder(apiUrl).append(request.getPath()).append('?');
+
+            request.getParameters().forEach((name, value) -> {
+                if (!name.equals("page") && !name.equals("per_page")) {
+                    next.append(encode(name)).append('=').append(encode(value)).append('&');
+                }
+            });
+
+            next.append("per_page=").append(size).append("&page=").append(number + 1);
+
+            return response.header("Link", "<" + next + ">; rel=\"next\"");
+        }
+    }
+}
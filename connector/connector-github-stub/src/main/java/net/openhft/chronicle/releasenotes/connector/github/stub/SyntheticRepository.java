@@ -0,0 +1,923 @@
+package net.openhft.chronicle.releasenotes.connector.github.stub;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A generated GitHub repository served by a {@link GitHubStubServer}.
+ * <p>
+ * The repository consists of a linear history on its default branch, a
+ * number of maintenance branches forked off tags of the default branch,
+ * tags spread evenly over both, milestones, and issues and pull requests
+ * sharing one number sequence. Commit messages reference issues with and
+ * without closing keywords, and every pull request which got merged has
+ * a merge commit associated with it. Issues closed by a commit are closed,
+ * all other issues are closed randomly. Issues and pull requests carry
+ * labels, a milestone and comments, some of which reference other issues.
+ * <p>
+ * The data set is generated from a seed, so the same options always
+ * produce the same repository. Releases, comments and milestone changes
+ * made through the stub server are applied to the repository and can be
+ * inspected afterwards.
+ */
+public final class SyntheticRepository {
+
+    private static final String[] CLOSING_REFERENCES = {
+        "Fixes #%d",
+        "Closes #%d",
+        "Resolves %s/issues/%d",
+        "fixed #%d",
+    };
+
+    private static final String[] REFERENCES = {
+        "Refs #%d",
+        "Work on #%d",
+        "See %s/issues/%d",
+    };
+
+    private static final String[] COMMENTS = {
+        "Looks good to me",
+        "Can this be backported?",
+        "Duplicate of #%d",
+        "Closes #%d",
+        "Fixed by #%d",
+    };
+
+    private final String owner;
+    private final String name;
+    private final String defaultBranch;
+
+    private final List<Commit> commits;
+    private final Map<String, Commit> commitsBySha;
+    private final Map<String, Commit> branches;
+    private final List<Tag> tags;
+    private final Map<String, Tag> tagsByName;
+    private final List<Milestone> milestones;
+    private final List<Issue> issues;
+
+    private final List<Release> releases = new ArrayList<>();
+    private long nextId;
+
+    private SyntheticRepository(String owner, String name, String defaultBranch, List<Commit> commits, Map<String, Commit> branches, List<Tag> tags, List<Milestone> milestones, List<Issue> issues, long nextId) {
+        this.owner = owner;
+        this.name = name;
+        this.defaultBranch = defaultBranch;
+        this.commits = Collections.unmodifiableList(commits);
+        this.branches = Collections.unmodifiableMap(branches);
+        this.tags = Collections.unmodifiableList(tags);
+        this.milestones = Collections.unmodifiableList(milestones);
+        this.issues = Collections.unmodifiableList(issues);
+        this.nextId = nextId;
+
+        this.commitsBySha = new HashMap<>(commits.size() * 2);
+        commits.forEach(commit -> commitsBySha.put(commit.getSha(), commit));
+
+        this.tagsByName = new HashMap<>(tags.size() * 2);
+        tags.forEach(tag -> tagsByName.put(tag.getName(), tag));
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFullName() {
+        return owner + "/" + name;
+    }
+
+    /**
+     * Returns the url of the repository on GitHub, which issue references
+     * in commit messages are based on.
+     */
+    public String getHtmlUrl() {
+        return "https://github.com/" + getFullName();
+    }
+
+    public String getDefaultBranch() {
+        return defaultBranch;
+    }
+
+    /**
+     * Returns all commits, ordered by their position in the generated
+     * history rather than by date.
+     */
+    public List<Commit> getCommits() {
+        return commits;
+    }
+
+    public Optional<Commit> getCommit(String sha) {
+        return Optional.ofNullable(commitsBySha.get(sha));
+    }
+
+    /**
+     * Returns the head commits of all branches, keyed by branch name.
+     */
+    public Map<String, Commit> getBranches() {
+        return branches;
+    }
+
+    /**
+     * Returns all tags, ordered by the date of the tagged commit (newest first).
+     */
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    public Optional<Tag> getTag(String name) {
+        return Optional.ofNullable(tagsByName.get(name));
+    }
+
+    public List<Milestone> getMilestones() {
+        return milestones;
+    }
+
+    public Optional<Milestone> getMilestone(int number) {
+        return number > 0 && number <= milestones.size() ? Optional.of(milestones.get(number - 1)) : Optional.empty();
+    }
+
+    /**
+     * Returns all issues and pull requests, ordered by number.
+     */
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    public Optional<Issue> getIssue(int number) {
+        return number > 0 && number <= issues.size() ? Optional.of(issues.get(number - 1)) : Optional.empty();
+    }
+
+    /**
+     * Returns the releases created through the stub server, oldest first.
+     */
+    public synchronized List<Release> getReleases() {
+        return Collections.unmodifiableList(new ArrayList<>(releases));
+    }
+
+    public synchronized Optional<Release> getRelease(String tag) {
+        requireNonNull(tag);
+
+        return releases.stream().filter(release -> release.getTagName().equals(tag)).findFirst();
+    }
+
+    synchronized Optional<Release> getRelease(long id) {
+        return releases.stream().filter(release -> release.getId() == id).findFirst();
+    }
+
+    /**
+     * Resolves a commit SHA, branch or tag name to a commit.
+     */
+    Optional<Commit> resolve(String ref) {
+        requireNonNull(ref);
+
+        if (commitsBySha.containsKey(ref)) {
+            return Optional.of(commitsBySha.get(ref));
+        }
+
+        if (branches.containsKey(ref)) {
+            return Optional.of(branches.get(ref));
+        }
+
+        return getTag(ref).map(Tag::getCommit);
+    }
+
+    synchronized Release createRelease(String tagName, String name, String body) {
+        final Release release = new Release(nextId++, tagName, name, body, Instant.now());
+
+        releases.add(release);
+
+        return release;
+    }
+
+    synchronized long nextId() {
+        return nextId++;
+    }
+
+    /**
+     * Returns the newest common ancestor of two commits.
+     */
+    static Commit mergeBase(Commit first, Commit second) {
+        Commit a = first;
+        Commit b = second;
+
+        while (a.depth > b.depth) {
+            a = a.parent;
+        }
+
+        while (b.depth > a.depth) {
+            b = b.parent;
+        }
+
+        while (a != b) {
+            a = a.parent;
+            b = b.parent;
+        }
+
+        return a;
+    }
+
+    /**
+     * Returns the commits reachable from {@code head} but not from
+     * {@code base}, oldest first.
+     */
+    static List<Commit> commitsBetween(Commit base, Commit head) {
+        final List<Commit> between = new ArrayList<>(Math.max(0, head.depth - base.depth));
+
+        for (Commit commit = head; commit != null && commit.depth > base.depth; commit = commit.parent) {
+            between.add(commit);
+        }
+
+        Collections.reverse(between);
+
+        return between;
+    }
+
+    public static final class Commit {
+
+        private final String sha;
+        private final String message;
+        private final Instant date;
+        private final Commit parent;
+        private final int depth;
+        private final Issue pullRequest;
+
+        private Commit(String sha, String message, Instant date, Commit parent, Issue pullRequest) {
+            this.sha = sha;
+            this.message = message;
+            this.date = date;
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.pullRequest = pullRequest;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Instant getDate() {
+            return date;
+        }
+
+        public Optional<Commit> getParent() {
+            return Optional.ofNullable(parent);
+        }
+
+        /**
+         * Returns the pull request this commit merged, if any.
+         */
+        public Optional<Issue> getPullRequest() {
+            return Optional.ofNullable(pullRequest);
+        }
+    }
+
+    public static final class Tag {
+
+        private final String name;
+        private final Commit commit;
+        private final boolean annotated;
+
+        private Tag(String name, Commit commit, boolean annotated) {
+            this.name = name;
+            this.commit = commit;
+            this.annotated = annotated;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Commit getCommit() {
+            return commit;
+        }
+
+        /**
+         * Returns whether the tag is an annotated tag object pointing to
+         * the commit, rather than a lightweight tag.
+         */
+        public boolean isAnnotated() {
+            return annotated;
+        }
+    }
+
+    public static final class Milestone {
+
+        private final int number;
+        private final String title;
+        private final boolean open;
+        private final Instant createdAt;
+
+        private Milestone(int number, String title, boolean open, Instant createdAt) {
+            this.number = number;
+            this.title = title;
+            this.open = open;
+            this.createdAt = createdAt;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    /**
+     * An issue or pull request.
+     */
+    public static final class Issue {
+
+        private final int number;
+        private final String title;
+        private final List<String> labels;
+        private final boolean pullRequest;
+        private final Instant createdAt;
+        private final List<Comment> comments = new CopyOnWriteArrayList<>();
+
+        private volatile boolean closed;
+        private volatile Instant closedAt;
+        private volatile Instant updatedAt;
+        private volatile Milestone milestone;
+
+        private Issue(int number, String title, List<String> labels, boolean pullRequest, Milestone milestone, Instant createdAt) {
+            this.number = number;
+            this.title = title;
+            this.labels = Collections.unmodifiableList(labels);
+            this.pullRequest = pullRequest;
+            this.milestone = milestone;
+            this.createdAt = createdAt;
+            this.updatedAt = createdAt;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public String getNodeId() {
+            return (pullRequest ? "PR_" : "I_") + number;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        public boolean isPullRequest() {
+            return pullRequest;
+        }
+
+        /**
+         * Returns the name of the branch a pull request was opened from.
+         */
+        public String getHeadRefName() {
+            return "feature-" + number;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        public Optional<Instant> getClosedAt() {
+            return Optional.ofNullable(closedAt);
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public Optional<Milestone> getMilestone() {
+            return Optional.ofNullable(milestone);
+        }
+
+        /**
+         * Returns the comments of the issue, oldest first.
+         */
+        public List<Comment> getComments() {
+            return Collections.unmodifiableList(comments);
+        }
+
+        void setMilestone(Milestone milestone) {
+            this.milestone = milestone;
+            this.updatedAt = Instant.now();
+        }
+
+        void addComment(Comment comment) {
+            comments.add(comment);
+            this.updatedAt = comment.getCreatedAt();
+        }
+
+        private void close(Instant date) {
+            closed = true;
+            closedAt = date;
+            updatedAt = updatedAt.isAfter(date) ? updatedAt : date;
+        }
+    }
+
+    public static final class Comment {
+
+        private final long id;
+        private final String body;
+        private final Instant createdAt;
+
+        Comment(long id, String body, Instant createdAt) {
+            this.id = id;
+            this.body = body;
+            this.createdAt = createdAt;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getNodeId() {
+            return "IC_" + id;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    public static final class Release {
+
+        private final long id;
+        private final String tagName;
+        private final Instant createdAt;
+
+        private volatile String name;
+        private volatile String body;
+
+        private Release(long id, String tagName, String name, String body, Instant createdAt) {
+            this.id = id;
+            this.tagName = tagName;
+            this.name = name;
+            this.body = body;
+            this.createdAt = createdAt;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getTagName() {
+            return tagName;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        void update(String name, String body) {
+            if (name != null) {
+                this.name = name;
+            }
+
+            if (body != null) {
+                this.body = body;
+            }
+        }
+    }
+
+    /**
+     * Generates a {@link SyntheticRepository}. The defaults produce a small
+     * repository, scale tests set the amount of commits, tags and issues
+     * they need.
+     */
+    public static final class Builder {
+        private final String owner;
+        private final String name;
+
+        private String defaultBranch = "main";
+        private int commits = 1_000;
+        private int tags = 20;
+        private int maintenanceBranches = 0;
+        private int maintenanceCommits = 10;
+        private int milestones = 10;
+        private int issues = 500;
+        private double pullRequestRatio = 0.25;
+        private double referenceRatio = 0.5;
+        private double closingKeywordRatio = 0.75;
+        private int maxComments = 3;
+        private List<String> labels = Arrays.asList("bug", "enhancement", "documentation", "question", "wontfix");
+        private Instant startDate = Instant.parse("2020-01-01T00:00:00Z");
+        private long seed = 1;
+
+        public Builder(String owner, String name) {
+            this.owner = requireNonNull(owner);
+            this.name = requireNonNull(name);
+        }
+
+        public Builder defaultBranch(String defaultBranch) {
+            this.defaultBranch = requireNonNull(defaultBranch);
+            return this;
+        }
+
+        /**
+         * Sets the amount of commits on the default branch.
+         */
+        public Builder commits(int commits) {
+            this.commits = requirePositive(commits, "commits");
+            return this;
+        }
+
+        /**
+         * Sets the amount of tags on the default branch, the last one
+         * tagging its head.
+         */
+        public Builder tags(int tags) {
+            this.tags = requirePositive(tags, "tags");
+            return this;
+        }
+
+        /**
+         * Sets the amount of maintenance branches forked off tags of the
+         * default branch, and the amount of commits on each of them. The
+         * head of every maintenance branch is tagged as well.
+         */
+        public Builder maintenanceBranches(int branches, int commitsPerBranch) {
+            this.maintenanceBranches = requireNotNegative(branches, "branches");
+            this.maintenanceCommits = requirePositive(commitsPerBranch, "commitsPerBranch");
+            return this;
+        }
+
+        public Builder milestones(int milestones) {
+            this.milestones = requireNotNegative(milestones, "milestones");
+            return this;
+        }
+
+        /**
+         * Sets the amount of issues and pull requests, which share one
+         * number sequence.
+         */
+        public Builder issues(int issues) {
+            this.issues = requirePositive(issues, "issues");
+            return this;
+        }
+
+        public Builder pullRequestRatio(double pullRequestRatio) {
+            this.pullRequestRatio = requireRatio(pullRequestRatio, "pullRequestRatio");
+            return this;
+        }
+
+        /**
+         * Sets the share of commits referencing an issue.
+         */
+        public Builder referenceRatio(double referenceRatio) {
+            this.referenceRatio = requireRatio(referenceRatio, "referenceRatio");
+            return this;
+        }
+
+        /**
+         * Sets the share of issue references preceded by a closing keyword.
+         */
+        public Builder closingKeywordRatio(double closingKeywordRatio) {
+            this.closingKeywordRatio = requireRatio(closingKeywordRatio, "closingKeywordRatio");
+            return this;
+        }
+
+        public Builder maxComments(int maxComments) {
+            this.maxComments = requireNotNegative(maxComments, "maxComments");
+            return this;
+        }
+
+        public Builder labels(String... labels) {
+            requireNonNull(labels);
+
+            this.labels = Arrays.asList(labels);
+            return this;
+        }
+
+        /**
+         * Sets the date of the first commit. Commits on the default branch
+         * are an hour apart.
+         */
+        public Builder startDate(Instant startDate) {
+            this.startDate = requireNonNull(startDate);
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SyntheticRepository build() {
+            return new Generator(this).generate();
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+
+            return value;
+        }
+
+        private static int requireNotNegative(int value, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+
+            return value;
+        }
+
+        private static double requireRatio(double value, String name) {
+            if (value < 0 || value > 1) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1");
+            }
+
+            return value;
+        }
+    }
+
+    private static final class Generator {
+
+        private static final Duration COMMIT_INTERVAL = Duration.ofHours(1);
+
+        private final Builder options;
+        private final Random random;
+        private final String htmlUrl;
+
+        private final List<Commit> commits = new ArrayList<>();
+        private final Map<String, Commit> branches = new LinkedHashMap<>();
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<Milestone> milestones = new ArrayList<>();
+        private final List<Issue> issues = new ArrayList<>();
+        private final List<Issue> plainIssues = new ArrayList<>();
+        private final List<Issue> pullRequests = new ArrayList<>();
+
+        private int nextPullRequest = 0;
+        private long nextCommentId = 1;
+
+        Generator(Builder options) {
+            this.options = options;
+            this.random = new Random(options.seed);
+            this.htmlUrl = "https://github.com/" + options.owner + "/" + options.name;
+        }
+
+        SyntheticRepository generate() {
+            generateMilestones();
+            generateIssues();
+
+            final List<Commit> mainline = generateMainline();
+            final List<Tag> mainlineTags = tagMainline(mainline);
+
+            generateMaintenanceBranches(mainlineTags);
+
+            for (final Issue issue : issues) {
+                generateComments(issue);
+            }
+
+            // tags are listed by the date of the tagged commit, newest first
+            tags.sort((a, b) -> b.getCommit().getDate().compareTo(a.getCommit().getDate()));
+
+            // ids handed out by the stub server continue after the generated comments
+            return new SyntheticRepository(options.owner, options.name, options.defaultBranch, commits, branches, tags, milestones, issues, nextCommentId);
+        }
+
+        private void generateMilestones() {
+            for (int i = 1; i <= options.milestones; i++) {
+                milestones.add(new Milestone(i, "1." + (i - 1), i == options.milestones, options.startDate));
+            }
+        }
+
+        private void generateIssues() {
+            final long interval = Math.max(1, COMMIT_INTERVAL.toMillis() * options.commits / options.issues);
+
+            for (int number = 1; number <= options.issues; number++) {
+                final boolean pullRequest = random.nextDouble() < options.pullRequestRatio;
+                final Milestone milestone = !milestones.isEmpty() && random.nextDouble() < 0.6
+                    ? milestones.get(random.nextInt(milestones.size()))
+                    : null;
+
+                final Issue issue = new Issue(
+                    number,
+                    (pullRequest ? "Pull request " : "Issue ") + number,
+                    randomLabels(),
+                    pullRequest,
+                    milestone,
+                    options.startDate.plusMillis(interval * (number - 1))
+                );
+
+                issues.add(issue);
+                (pullRequest ? pullRequests : plainIssues).add(issue);
+            }
+
+            // issues which aren't closed by a commit later on are closed at random
+            for (final Issue issue : plainIssues) {
+                if (random.nextDouble() < 0.3) {
+                    issue.close(issue.getCreatedAt().plus(Duration.ofDays(1 + random.nextInt(30))));
+                }
+            }
+        }
+
+        private List<Commit> generateMainline() {
+            final List<Commit> mainline = new ArrayList<>(options.commits);
+            final double mergeRatio = Math.min(1, (double) pullRequests.size() / options.commits);
+
+            Commit parent = null;
+
+            for (int i = 0; i < options.commits; i++) {
+                final Instant date = options.startDate.plus(COMMIT_INTERVAL.multipliedBy(i));
+
+                parent = nextPullRequest < pullRequests.size() && random.nextDouble() < mergeRatio
+                    ? mergeCommit(parent, date)
+                    : commit(parent, date, "Change " + i);
+
+                mainline.add(parent);
+            }
+
+            branches.put(options.defaultBranch, parent);
+
+            return mainline;
+        }
+
+        private List<Tag> tagMainline(List<Commit> mainline) {
+            final List<Tag> mainlineTags = new ArrayList<>(options.tags);
+            final int tagCount = Math.min(options.tags, mainline.size());
+
+            for (int i = 0; i < tagCount; i++) {
+                final Commit commit = mainline.get((int) ((long) (i + 1) * mainline.size() / tagCount) - 1);
+
+                mainlineTags.add(tag("1." + (i / 100) + "." + (i % 100), commit));
+            }
+
+            return mainlineTags;
+        }
+
+        private void generateMaintenanceBranches(List<Tag> mainlineTags) {
+            final int branchCount = Math.min(options.maintenanceBranches, mainlineTags.size());
+
+            for (int b = 0; b < branchCount; b++) {
+                final Tag forkTag = mainlineTags.get((int) ((long) (b + 1) * mainlineTags.size() / (branchCount + 1)));
+                final long interval = COMMIT_INTERVAL.toMillis() / (options.maintenanceCommits + 1);
+
+                Commit parent = forkTag.getCommit();
+
+                for (int i = 0; i < options.maintenanceCommits; i++) {
+                    parent = commit(parent, forkTag.getCommit().getDate().plusMillis(interval * (i + 1)), "Backport " + i + " to " + forkTag.getName());
+                }
+
+                branches.put("maintenance-" + forkTag.getName(), parent);
+                tag(forkTag.getName() + ".1", parent);
+            }
+        }
+
+        private Commit mergeCommit(Commit parent, Instant date) {
+            final Issue pullRequest = pullRequests.get(nextPullRequest++);
+
+            pullRequest.close(date);
+
+            final String summary = "Merge pull request #" + pullRequest.getNumber() + " from " + options.owner + "/" + pullRequest.getHeadRefName();
+
+            return add(new Commit(sha(), withIssueReference(summary, date), date, parent, pullRequest));
+        }
+
+        private Commit commit(Commit parent, Instant date, String summary) {
+            return add(new Commit(sha(), withIssueReference(summary, date), date, parent, null));
+        }
+
+        private Commit add(Commit commit) {
+            commits.add(commit);
+            return commit;
+        }
+
+        private String withIssueReference(String summary, Instant date) {
+            if (random.nextDouble() >= options.referenceRatio) {
+                return summary;
+            }
+
+            final Issue issue = randomIssueCreatedBefore(date);
+
+            if (issue == null) {
+                return summary;
+            }
+
+            final String[] templates;
+
+            if (random.nextDouble() < options.closingKeywordRatio) {
+                if (!issue.isClosed()) {
+                    issue.close(date);
+                }
+
+                templates = CLOSING_REFERENCES;
+            } else {
+                templates = REFERENCES;
+            }
+
+            return summary + "\n\n" + templates[random.nextInt(templates.length)]
+                .replace("%s", htmlUrl)
+                .replace("%d", String.valueOf(issue.getNumber()));
+        }
+
+        private Issue randomIssueCreatedBefore(Instant date) {
+            int low = 0;
+            int high = plainIssues.size();
+
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+
+                if (plainIssues.get(middle).getCreatedAt().isAfter(date)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            return low == 0 ? null : plainIssues.get(random.nextInt(low));
+        }
+
+        private Tag tag(String name, Commit commit) {
+            final Tag tag = new Tag(name, commit, random.nextBoolean());
+
+            tags.add(tag);
+
+            return tag;
+        }
+
+        private void generateComments(Issue issue) {
+            final int count = options.maxComments == 0 ? 0 : random.nextInt(options.maxComments + 1);
+
+            for (int i = 0; i < count; i++) {
+                final String body = COMMENTS[random.nextInt(COMMENTS.length)]
+                    .replace("%d", String.valueOf(1 + random.nextInt(issues.size())));
+
+                issue.comments.add(new Comment(nextCommentId++, body, issue.getCreatedAt().plus(Duration.ofHours(i + 1))));
+            }
+        }
+
+        private List<String> randomLabels() {
+            if (options.labels.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            final int count = random.nextInt(Math.min(2, options.labels.size()) + 1);
+            final List<String> selected = new ArrayList<>(count);
+
+            while (selected.size() < count) {
+                final String label = options.labels.get(random.nextInt(options.labels.size()));
+
+                if (!selected.contains(label)) {
+                    selected.add(label);
+                }
+            }
+
+            return selected;
+        }
+
+        private String sha() {
+            final char[] sha = new char[40];
+
+            for (int i = 0; i < sha.length; i++) {
+                sha[i] = Character.forDigit(random.nextInt(16), 16);
+            }
+
+            return new String(sha);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import net.openhft.chronicle.releasenotes.model.Commit;
+import net.openhft.chronicle.releasenotes.model.FullIssue;
+import net.openhft.chronicle.releasenotes.model.Issue;
+import net.openhft.chronicle.releasenotes.model.IssueComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records the completed phases of a single release run, so a rerun with
+ * the same inputs resumes after the last completed phase.
+ * <p>
+ * Every run is journaled in its own file, named after a hash of the run
+ * inputs, which is deleted once the run completes. Journals older than
+ * {@value #MAX_AGE_HOURS} hours are discarded. Journals are stored in
+ * {@code ~/.chronicle-release-notes/checkpoints}, see
+ * {@value #CHECKPOINT_DIRECTORY_PROPERTY} and
+ * {@value #CHECKPOINT_ENABLED_PROPERTY}.
+ */
+final class CheckpointJournal {
+
+    static final String CHECKPOINT_DIRECTORY_PROPERTY = "chronicle.releasenotes.checkpoint.dir";
+    static final String CHECKPOINT_ENABLED_PROPERTY = "chronicle.releasenotes.checkpoint.enabled";
+
+    static final Codec<List<Commit>> COMMITS = new CommitsCodec();
+    static final Codec<Set<Integer>> ISSUE_IDS = new IssueIdsCodec();
+    static final Codec<List<IssueOrPullRequest>> ISSUES = new IssuesCodec();
+    static final Codec<List<Issue>> RELEASE_ISSUES = new ReleaseIssuesCodec();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CheckpointJournal.class);
+
+    private static final String DEFAULT_CHECKPOINT_DIRECTORY = System.getProperty("user.home") + File.separator + ".chronicle-release-notes" + File.separator + "checkpoints";
+    static final long MAX_AGE_HOURS = 24;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final CheckpointJournal DISABLED = new CheckpointJournal(null, Collections.emptyMap());
+
+    private final Path file;
+    private final Map<String, JsonNode> checkpoints;
+
+    private CheckpointJournal(Path file, Map<String, JsonNode> checkpoints) {
+        this.file = file;
+        this.checkpoints = checkpoints;
+    }
+
+    /**
+     * Opens the journal of the run identified by the provided inputs,
+     * loading all phases which were completed by a previous attempt.
+     *
+     * @param inputs all inputs which influence the results of the run
+     * @return the journal of the run
+     */
+    static CheckpointJournal open(Object... inputs) {
+        requireNonNull(inputs);
+
+        if (!Boolean.parseBoolean(System.getProperty(CHECKPOINT_ENABLED_PROPERTY, "true"))) {
+            return DISABLED;
+        }
+
+        final Path directory = Paths.get(System.getProperty(CHECKPOINT_DIRECTORY_PROPERTY, DEFAULT_CHECKPOINT_DIRECTORY));
+        final Path file = directory.resolve(hash(inputs) + ".journal");
+
+        try {
+            Files.createDirectories(directory);
+
+            return new CheckpointJournal(file, load(file));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to open checkpoint journal '{}', continuing without checkpoints", file, e);
+
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Returns a journal which doesn't record or resume any phase.
+     */
+    static CheckpointJournal disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the result of a phase completed by a previous attempt of the
+     * run or, if there is none, runs the phase and records its result.
+     *
+     * @param phase name of the phase, unique within a run
+     * @param codec used to store the result of the phase
+     * @param supplier runs the phase
+     * @return the result of the phase
+     */
+    <T> T checkpoint(String phase, Codec<T> codec, Supplier<T> supplier) {
+        requireNonNull(phase);
+        requireNonNull(codec);
+        requireNonNull(supplier);
+
+        final JsonNode checkpoint = checkpoints.get(phase);
+
+        if (checkpoint != null) {
+            LOGGER.info("Resuming from checkpoint '{}'", phase);
+
+            return codec.read(checkpoint);
+        }
+
+        final T result = supplier.get();
+
+        if (file != null) {
+            record(phase, codec.write(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Marks the run as completed, deleting its journal.
+     */
+    void complete() {
+        if (file == null) {
+            return;
+        }
+
+        checkpoints.clear();
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete checkpoint journal '{}'", file, e);
+        }
+    }
+
+    private void record(String phase, JsonNode data) {
+        final ObjectNode entry = MAPPER.createObjectNode();
+        entry.put("phase", phase);
+        entry.set("data", data);
+
+        try {
+            Files.write(file, Collections.singletonList(MAPPER.writeValueAsString(entry)), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+
+            checkpoints.put(phase, data);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to record checkpoint '{}' in journal '{}'", phase, file, e);
+        }
+    }
+
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        final Map<String, JsonNode> checkpoints = new HashMap<>();
+
+        if (!Files.exists(file)) {
+            return checkpoints;
+        }
+
+        if (Files.getLastModifiedTime(file).toMillis() < System.currentTimeMillis() - TimeUnit.HOURS.toMillis(MAX_AGE_HOURS)) {
+            LOGGER.debug("Discarding outdated checkpoint journal '{}'", file);
+
+            Files.delete(file);
+            return checkpoints;
+        }
+
+        final List<String> validLines = new ArrayList<>();
+        boolean truncated = false;
+
+        try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                final JsonNode entry = readEntry(line);
+
+                if (entry == null) {
+                    truncated = true;
+                    break;
+                }
+
+                checkpoints.put(entry.get("phase").asText(), entry.get("data"));
+                validLines.add(line);
+            }
+        }
+
+        if (truncated) {
+            // drop the partial entry, otherwise the next recorded phase would be appended to it
+            Files.write(file, validLines, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+        }
+
+        return checkpoints;
+    }
+
+    private static JsonNode readEntry(String line) {
+        try {
+            final JsonNode entry = MAPPER.readTree(line);
+
+            return entry != null && entry.hasNonNull("phase") && entry.has("data") ? entry : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String hash(Object... inputs) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (Object input : inputs) {
+                digest.update(String.valueOf(input).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+
+            final StringBuilder hash = new StringBuilder();
+
+            for (byte b : digest.digest()) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toText(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    private static URL toUrl(JsonNode node) {
+        try {
+            return node == null || node.isNull() ? null : new URL(node.asText());
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid url '" + node.asText() + "' in checkpoint journal");
+        }
+    }
+
+    private static ArrayNode writeLabels(List<String> labels) {
+        final ArrayNode node = MAPPER.createArrayNode();
+        labels.forEach(node::add);
+        return node;
+    }
+
+    private static List<String> readLabels(JsonNode node) {
+        final List<String> labels = new ArrayList<>(node.size());
+        node.forEach(label -> labels.add(label.asText()));
+        return labels;
+    }
+
+    /**
+     * Converts the result of a phase from and to its journaled form.
+     */
+    interface Codec<T> {
+
+        JsonNode write(T value);
+
+        T read(JsonNode node);
+    }
+
+    private static final class CommitsCodec implements Codec<List<Commit>> {
+
+        @Override
+        public JsonNode write(List<Commit> commits) {
+            final ArrayNode node = MAPPER.createArrayNode();
+
+            commits.forEach(commit -> node.addObject()
+                .put("sha1", commit.getSHA1())
+                .put("message", commit.getMessage()));
+
+            return node;
+        }
+
+        @Override
+        public List<Commit> read(JsonNode node) {
+            final List<Commit> commits = new ArrayList<>(node.size());
+
+            node.forEach(commit -> commits.add(new Commit(commit.get("sha1").asText(), toText(commit.get("message")))));
+
+            return commits;
+        }
+    }
+
+    private static final class IssueIdsCodec implements Codec<Set<Integer>> {
+
+        @Override
+        public JsonNode write(Set<Integer> ids) {
+            final ArrayNode node = MAPPER.createArrayNode();
+            ids.forEach(node::add);
+            return node;
+        }
+
+        @Override
+        public Set<Integer> read(JsonNode node) {
+            final Set<Integer> ids = new LinkedHashSet<>(node.size() * 2);
+            node.forEach(id -> ids.add(id.asInt()));
+            return ids;
+        }
+    }
+
+    private static final class IssuesCodec implements Codec<List<IssueOrPullRequest>> {
+
+        @Override
+        public JsonNode write(List<IssueOrPullRequest> issues) {
+            final ArrayNode node = MAPPER.createArrayNode();
+
+            issues.forEach(issue -> {
+                final ObjectNode issueNode = node.addObject()
+                    .put("id", issue.getId())
+                    .put("number", issue.getNumber())
+                    .put("title", issue.getTitle())
+                    .put("url", issue.getUrl() != null ? issue.getUrl().toString() : null)
+                    .put("pullRequest", issue.isPullRequest());
+
+                issueNode.set("labels", writeLabels(issue.getLabels()));
+            });
+
+            return node;
+        }
+
+        @Override
+        public List<IssueOrPullRequest> read(JsonNode node) {
+            final List<IssueOrPullRequest> issues = new ArrayList<>(node.size());
+
+            node.forEach(issue -> issues.add(new IssueOrPullRequest(
+                toText(issue.get("id")),
+                issue.get("number").asInt(),
+                toText(issue.get("title")),
+                readLabels(issue.get("labels")),
+                toUrl(issue.get("url")),
+                issue.get("pullRequest").asBoolean()
+            )));
+
+            return issues;
+        }
+    }
+
+    private static final class ReleaseIssuesCodec implements Codec<List<Issue>> {
+
+        @Override
+        public JsonNode write(List<Issue> issues) {
+            final ArrayNode node = MAPPER.createArrayNode();
+
+            issues.forEach(issue -> {
+                final ObjectNode issueNode = node.addObject()
+                    .put("number", issue.getNumber())
+                    .put("title", issue.getTitle())
+                    .put("url", issue.getUrl() != null ? issue.getUrl().toString() : null);
+
+                issueNode.set("labels", writeLabels(issue.getLabels()));
+
+                final ArrayNode commentsNode = issueNode.putArray("comments");
+
+                if (issue instanceof FullIssue) {
+                    ((FullIssue) issue).getComments().forEach(comment -> commentsNode.addObject()
+                        .put("body", comment.getBody())
+                        .put("createdAt", comment.getCreatedAt().getTime()));
+                }
+            });
+
+            return node;
+        }
+
+        @Override
+        public List<Issue> read(JsonNode node) {
+            final List<Issue> issues = new ArrayList<>(node.size());
+
+            node.forEach(issue -> {
+                final List<IssueComment> comments = new ArrayList<>();
+
+                issue.get("comments").forEach(comment -> comments.add(
+                    new IssueComment(toText(comment.get("body")), new Date(comment.get("createdAt").asLong()))
+                ));
+
+                issues.add(new FullIssue(
+                    issue.get("number").asInt(),
+                    toText(issue.get("title")),
+                    readLabels(issue.get("labels")),
+                    comments,
+                    toUrl(issue.get("url"))
+                ));
+            });
+
+            return issues;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.GitHubGraphQLClient;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.PullRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issue references and associated pull requests of the commits of a
+ * single repository, keyed by commit SHA.
+ * <p>
+ * The index is persisted in an append-only file per repository, in
+ * {@code ~/.chronicle-release-notes/index} by default (see
+ * {@value #INDEX_DIRECTORY_PROPERTY}). If the file can't be read or
+ * written, the index keeps working in memory only.
+ */
+final class CommitIndex {
+
+    static final String INDEX_DIRECTORY_PROPERTY = "chronicle.releasenotes.index.dir";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommitIndex.class);
+
+    private static final String DEFAULT_INDEX_DIRECTORY = System.getProperty("user.home") + File.separator + ".chronicle-release-notes" + File.separator + "index";
+
+    private static final int MAGIC = 0x43524e49;
+    // bump whenever the record layout or the issue reference parsing changes
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 8;
+
+    private static final byte ISSUE_REFERENCES_RECORD = 1;
+    private static final byte PULL_REQUESTS_RECORD = 2;
+
+    private final Path file;
+
+    private final Map<String, IssueReferences> issueReferences = new HashMap<>();
+    private final Map<String, List<PullRequest>> pullRequests = new HashMap<>();
+
+    private boolean loaded = false;
+    private boolean persistent;
+
+    CommitIndex(String repository) {
+        requireNonNull(repository);
+
+        this.file = Paths.get(System.getProperty(INDEX_DIRECTORY_PROPERTY, DEFAULT_INDEX_DIRECTORY))
+            .resolve(repository.replace('/', File.separatorChar) + ".commits");
+        this.persistent = true;
+    }
+
+    /**
+     * Returns the issue references of a commit, or {@code null} if the
+     * commit was not scanned yet.
+     */
+    synchronized IssueReferences getIssueReferences(String sha1) {
+        requireNonNull(sha1);
+
+        load();
+
+        return issueReferences.get(sha1);
+    }
+
+    /**
+     * Returns the pull requests associated with a commit, or {@code null}
+     * if they were not fetched yet.
+     */
+    synchronized List<PullRequest> getPullRequests(String sha1) {
+        requireNonNull(sha1);
+
+        load();
+
+        return pullRequests.get(sha1);
+    }
+
+    synchronized void putIssueReferences(Map<String, IssueReferences> references) {
+        requireNonNull(references);
+
+        load();
+
+        if (references.isEmpty()) {
+            return;
+        }
+
+        issueReferences.putAll(references);
+
+        append(output -> {
+            for (Map.Entry<String, IssueReferences> entry : references.entrySet()) {
+                output.writeByte(ISSUE_REFERENCES_RECORD);
+                writeString(output, entry.getKey());
+                writeInts(output, entry.getValue().getClosingIssueIds());
+                writeInts(output, entry.getValue().getReferencedIssueIds());
+            }
+        });
+    }
+
+    /**
+     * Adds the associated pull requests of commits. Empty and possibly
+     * incomplete lists are only kept in memory, as later pull requests
+     * may still be associated with those commits.
+     */
+    synchronized void putPullRequests(Map<String, List<PullRequest>> associatedPullRequests) {
+        requireNonNull(associatedPullRequests);
+
+        load();
+
+        final Map<String, List<PullRequest>> persisted = new HashMap<>();
+
+        associatedPullRequests.forEach((sha1, commitPullRequests) -> {
+            pullRequests.put(sha1, Collections.unmodifiableList(new ArrayList<>(commitPullRequests)));
+
+            if (!commitPullRequests.isEmpty() && commitPullRequests.size() < GitHubGraphQLClient.ASSOCIATED_PULL_REQUEST_COUNT) {
+                persisted.put(sha1, commitPullRequests);
+            }
+        });
+
+        if (persisted.isEmpty()) {
+            return;
+        }
+
+        append(output -> {
+            for (Map.Entry<String, List<PullRequest>> entry : persisted.entrySet()) {
+                output.writeByte(PULL_REQUESTS_RECORD);
+                writeString(output, entry.getKey());
+                output.writeInt(entry.getValue().size());
+
+                for (PullRequest pullRequest : entry.getValue()) {
+                    output.writeInt(pullRequest.getNumber());
+                    writeString(output, pullRequest.getHeadRefName());
+                }
+            }
+        });
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LOGGER.debug("Discarding commit index '{}' with an outdated format", file);
+
+                channel.truncate(0);
+                return;
+            }
+
+            int end = buffer.position();
+
+            try {
+                while (buffer.hasRemaining()) {
+                    readRecord(buffer);
+                    end = buffer.position();
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                channel.truncate(end);
+            }
+
+            LOGGER.debug("Loaded {} commits from commit index '{}'", issueReferences.size(), file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to load commit index '{}', continuing without it", file, e);
+
+            issueReferences.clear();
+            pullRequests.clear();
+            persistent = false;
+        }
+    }
+
+    private void readRecord(ByteBuffer buffer) {
+        final byte type = buffer.get();
+        final String sha1 = readString(buffer);
+
+        switch (type) {
+            case ISSUE_REFERENCES_RECORD:
+                final int[] closingIssueIds = readInts(buffer);
+                final int[] referencedIssueIds = readInts(buffer);
+
+                issueReferences.put(sha1, new IssueReferences(closingIssueIds, referencedIssueIds));
+                break;
+            case PULL_REQUESTS_RECORD:
+                final int count = readLength(buffer);
+                final List<PullRequest> commitPullRequests = new ArrayList<>(count);
+
+                for (int i = 0; i < count; i++) {
+                    final int number = buffer.getInt();
+                    commitPullRequests.add(new PullRequest(number, readString(buffer)));
+                }
+
+                pullRequests.put(sha1, Collections.unmodifiableList(commitPullRequests));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record type " + type);
+        }
+    }
+
+    private void append(RecordWriter writer) {
+        if (!persistent) {
+            return;
+        }
+
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream output = new DataOutputStream(bytes);
+
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                Files.createDirectories(file.getParent());
+
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+            }
+
+            writer.write(output);
+            output.flush();
+
+            Files.write(file, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to update commit index '{}', continuing in memory", file, e);
+
+            persistent = false;
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+        output.writeInt(values.length);
+
+        for (int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[readLength(buffer)];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int[] readInts(ByteBuffer buffer) {
+        final int[] values = new int[readLength(buffer)];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+
+        return values;
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+
+        return length;
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * Issue ids referenced by a single commit message.
+     */
+    static final class IssueReferences {
+
+        private final int[] closingIssueIds;
+        private final int[] referencedIssueIds;
+
+        IssueReferences(int[] closingIssueIds, int[] referencedIssueIds) {
+            this.closingIssueIds = requireNonNull(closingIssueIds);
+            this.referencedIssueIds = requireNonNull(referencedIssueIds);
+        }
+
+        /**
+         * Returns the ids of issues preceded by a closing keyword.
+         */
+        int[] getClosingIssueIds() {
+            return closingIssueIds;
+        }
+
+        /**
+         * Returns the ids of all referenced issues, including the ones
+         * without a closing keyword.
+         */
+        int[] getReferencedIssueIds() {
+            return referencedIssueIds;
+        }
+
+        int[] getIssueIds(boolean includeIssuesWithoutClosingKeyword) {
+            return includeIssuesWithoutClosingKeyword ? referencedIssueIds : closingIssueIds;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Provides the {@link OkHttpClient} shared by the REST and GraphQL clients
+ * of the GitHub connectors.
+ *
+ * Responses are stored in a size-bounded on-disk cache and revalidated
+ * with {@code If-None-Match} on every request. A {@code 304 Not Modified}
+ * response does not count against GitHub's primary rate limit, so
+ * repeated runs against the same repository mostly hit the cache.
+ *
+ * The cache directory and size can be changed with the
+ * {@value #CACHE_DIRECTORY_PROPERTY} and {@value #CACHE_SIZE_PROPERTY}
+ * system properties. Setting the size to {@code 0} disables the cache.
+ *
+ * Requests are paced by a {@link RateLimitScheduler}, which is shared by
+ * every connector in the JVM since they all use this client.
+ *
+ * All traffic can be recorded into a file with the
+ * {@value #RECORD_FILE_PROPERTY} system property, and replayed later
+ * without network access with {@value #REPLAY_FILE_PROPERTY}. Replayed
+ * responses are delayed by their recorded response time, unless
+ * {@value #REPLAY_TIMING_PROPERTY} is set to {@code collapse}. See
+ * {@link HttpRecorder}.
+ *
+ * Requests are sent to {@code https://api.github.com}, or to the API url
+ * set with the {@value #API_URL_PROPERTY} system property, e.g. a GitHub
+ * Enterprise Server ({@code https://host/api/v3}) or a local stub server.
+ * See {@link #getApiUrl()} and {@link #getGraphQLUrl()}.
+ */
+public final class GitHubHttpClient {
+
+    public static final String API_URL_PROPERTY = "chronicle.releasenotes.github.api.url";
+    public static final String CACHE_DIRECTORY_PROPERTY = "chronicle.releasenotes.cache.dir";
+    public static final String CACHE_SIZE_PROPERTY = "chronicle.releasenotes.cache.size";
+    public static final String RECORD_FILE_PROPERTY = "chronicle.releasenotes.http.record";
+    public static final String REPLAY_FILE_PROPERTY = "chronicle.releasenotes.http.replay";
+    public static final String REPLAY_TIMING_PROPERTY = "chronicle.releasenotes.http.replay.timing";
+
+    private static final String DEFAULT_API_URL = "https://api.github.com";
+    private static final String DEFAULT_CACHE_DIRECTORY = System.getProperty("user.home") + File.separator + ".chronicle-release-notes" + File.separator + "http-cache";
+    private static final long DEFAULT_CACHE_SIZE = 50L * 1024L * 1024L;
+
+    private static OkHttpClient sharedClient;
+
+    private GitHubHttpClient() {
+    }
+
+    /**
+     * Returns the shared client, creating it and its cache on first use.
+     *
+     * @return the shared client
+     */
+    public static synchronized OkHttpClient getSharedClient() {
+        if (sharedClient == null) {
+            sharedClient = createClient();
+        }
+
+        return sharedClient;
+    }
+
+    /**
+     * Returns the base url of the REST API, without a trailing slash.
+     *
+     * @return the REST API url
+     */
+    public static String getApiUrl() {
+        final String apiUrl = System.getProperty(API_URL_PROPERTY, DEFAULT_API_URL).trim();
+
+        return apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+    }
+
+    /**
+     * Returns the url of the GraphQL API belonging to the {@link #getApiUrl() REST API}.
+     * The GraphQL API of a GitHub Enterprise Server is served next to its
+     * versioned REST API ({@code /api/v3} becomes {@code /api/graphql}),
+     * everywhere else it is served below the REST API url.
+     *
+     * @return the GraphQL API url
+     */
+    public static String getGraphQLUrl() {
+        final String apiUrl = getApiUrl();
+
+        if (apiUrl.endsWith("/v3")) {
+            return apiUrl.substring(0, apiUrl.length() - "/v3".length()) + "/graphql";
+        }
+
+        return apiUrl + "/graphql";
+    }
+
+    static OkHttpClient createClient() {
+        // interceptors added later run closer to the network, so every attempt of a retried request is recorded
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitScheduler());
+
+        final String replayFile = System.getProperty(REPLAY_FILE_PROPERTY);
+        final String recordFile = System.getProperty(RECORD_FILE_PROPERTY);
+
+        try {
+            if (replayFile != null) {
+                // replayed responses never reach the network, so caching doesn't apply
+                return builder
+                    .addInterceptor(HttpRecorder.replay(Paths.get(replayFile), !"collapse".equalsIgnoreCase(System.getProperty(REPLAY_TIMING_PROPERTY))))
+                    .build();
+            }
+
+            if (recordFile != null) {
+                builder.addInterceptor(HttpRecorder.record(Paths.get(recordFile)));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open HTTP recording '" + (replayFile != null ? replayFile : recordFile) + "'", e);
+        }
+
+        final long cacheSize = Long.getLong(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+
+        if (cacheSize > 0) {
+            builder.cache(new Cache(new File(System.getProperty(CACHE_DIRECTORY_PROPERTY, DEFAULT_CACHE_DIRECTORY)), cacheSize));
+        }
+
+        return builder.build();
+    }
+}
@@ -5,20 +5,33 @@ import static java.util.stream.Collectors.toList;
 
 import net.openhft.chronicle.releasenotes.connector.ConnectorProviderKey;
 import net.openhft.chronicle.releasenotes.connector.MigrateConnector;
+import net.openhft.chronicle.releasenotes.connector.MigrateException;
+import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHIssue;
 import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHMilestone;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.HttpException;
+import org.kohsuke.github.PagedIterable;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -28,7 +41,13 @@ import java.util.stream.StreamSupport;
  */
 public final class GitHubMigrateConnector implements MigrateConnector {
 
+    private static final int REQUEST_PAGE_SIZE = 100;
+    private static final int MIGRATE_CONCURRENCY = 8;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 1000L;
+
     private final GitHub github;
+    private final RepositoryCache repositoryCache;
 
     private final Logger logger;
 
@@ -38,8 +57,11 @@ public final class GitHubMigrateConnector implements MigrateConnector {
 
     public GitHubMigrateConnector(String token, Logger logger) throws IOException {
         this.github = new GitHubBuilder()
+            .withEndpoint(GitHubHttpClient.getApiUrl())
             .withOAuthToken(requireNonNull(token))
+            .withConnector(new OkHttpGitHubConnector(GitHubHttpClient.getSharedClient()))
             .build();
+        this.repositoryCache = new RepositoryCache(github);
 
         this.logger = requireNonNull(logger);
     }
@@ -51,24 +73,45 @@ public final class GitHubMigrateConnector implements MigrateConnector {
         requireNonNull(toMilestone);
 
         final GHRepository repositoryRef = getRepository(repository);
-        final Map<String, GHMilestone> milestonesRef = getMilestones(repositoryRef, fromMilestones);
-        final GHMilestone toMilestoneRef = getMilestone(repositoryRef, toMilestone);
+        final MilestoneIndex milestoneIndex = new MilestoneIndex(repositoryRef);
+        final List<GHMilestone> milestonesRef = getMilestones(milestoneIndex, repositoryRef, fromMilestones);
+        final GHMilestone toMilestoneRef = milestoneIndex.getMilestone(toMilestone)
+            .orElseThrow(() -> new RuntimeException("Milestone '" + toMilestone + "' not found"));
 
-        final List<GHIssue> issues = getMilestoneIssues(repositoryRef, (List<GHMilestone>) milestonesRef.values(), migrateOptions.getIgnoredLabels());
+        // issues that are already part of the target milestone don't need to be touched
+        milestonesRef.removeIf(milestone -> milestone.getNumber() == toMilestoneRef.getNumber());
 
-        final AtomicReference<MigrateResult> migrateResult = new AtomicReference<>(MigrateResult.success());
+        final List<GHIssue> issues = getMilestoneIssues(repositoryRef, milestonesRef, migrateOptions.getIgnoredLabels());
 
-        issues.forEach(ghIssue -> {
-            try {
-                ghIssue.setMilestone(toMilestoneRef);
-            } catch (IOException e) {
-                migrateResult.set(MigrateResult.fail(
-                    new RuntimeException("Failed to assign issue #" + ghIssue.getNumber() + " to milestone '" + toMilestone + "'"))
-                );
-            }
-        });
+        if (issues.isEmpty()) {
+            return MigrateResult.success();
+        }
 
-        return migrateResult.get();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(MIGRATE_CONCURRENCY, issues.size()));
+
+        try {
+            final Map<Integer, CompletableFuture<Void>> migrations = new LinkedHashMap<>();
+
+            issues.forEach(issue -> migrations.put(issue.getNumber(), CompletableFuture.runAsync(() -> setMilestone(issue, toMilestoneRef), executor)));
+
+            // results are reported in the order the issues were discovered, independent of completion order
+            final List<Integer> migratedIssues = new ArrayList<>();
+            final Map<Integer, MigrateException> failedIssues = new LinkedHashMap<>();
+
+            migrations.forEach((number, migration) -> {
+                try {
+                    migration.join();
+                    migratedIssues.add(number);
+                } catch (CompletionException e) {
+                    failedIssues.put(number, new MigrateException(
+                        "Failed to assign issue #" + number + " to milestone '" + toMilestone + "'", e.getCause()));
+                }
+            });
+
+            return MigrateResult.of(migratedIssues, failedIssues);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Override
@@ -80,55 +123,106 @@ public final class GitHubMigrateConnector implements MigrateConnector {
         requireNonNull(repository);
 
         try {
-            return github.getRepository(repository);
+            return repositoryCache.getRepository(repository)
+                .orElseThrow(() -> new RuntimeException("Repository '" + repository + "' not found"));
         } catch (IOException e) {
             throw new RuntimeException("Repository '" + repository + "' not found");
         }
     }
 
-    private Map<String, GHMilestone> getMilestones(GHRepository repository, List<String> milestones) {
-        requireNonNull(repository);
+    private List<GHMilestone> getMilestones(MilestoneIndex milestoneIndex, GHRepository repository, List<String> milestones) {
+        requireNonNull(milestoneIndex);
         requireNonNull(milestones);
 
-        final Map<String, GHMilestone> collectedMilestones = stream(repository.listMilestones(GHIssueState.ALL))
-            .filter(milestone -> milestones.contains(milestone.getTitle()))
-            .collect(Collectors.toMap(GHMilestone::getTitle, Function.identity()));
+        final List<GHMilestone> collectedMilestones = new ArrayList<>();
+        final List<String> missingMilestones = new ArrayList<>();
 
-        if (collectedMilestones.size() == milestones.size()) {
+        milestones.stream().distinct().forEach(milestone -> {
+            final Optional<GHMilestone> milestoneRef = milestoneIndex.getMilestone(milestone);
+
+            if (milestoneRef.isPresent()) {
+                collectedMilestones.add(milestoneRef.get());
+            } else {
+                missingMilestones.add(milestone);
+            }
+        });
+
+        if (missingMilestones.isEmpty()) {
             return collectedMilestones;
         }
 
-        final String missingMilestones = milestones.stream()
-            .filter(tag -> !collectedMilestones.containsKey(tag))
-            .collect(Collectors.joining(", "));
+        throw new RuntimeException("Failed to find milestones(s) [" + String.join(", ", missingMilestones) + "] in repository '" + repository.getFullName() + "'");
+    }
+
+    /**
+     * Assigns an issue to a milestone. Transient failures (network errors
+     * and server errors) are retried with an exponential backoff, client
+     * errors fail immediately. Rate limits are already taken care of by
+     * the shared HTTP client.
+     */
+    private void setMilestone(GHIssue issue, GHMilestone milestone) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                issue.setMilestone(milestone);
+                return;
+            } catch (IOException e) {
+                if (attempt >= MAX_ATTEMPTS || !isTransient(e)) {
+                    throw new CompletionException(e);
+                }
+
+                logger.warn("Failed to assign issue #{} to milestone '{}', retrying (attempt {} of {})",
+                    issue.getNumber(), milestone.getTitle(), attempt + 1, MAX_ATTEMPTS);
+            }
 
-        throw new RuntimeException("Failed to find milestones(s) [" + missingMilestones + "] in repository '" + repository.getFullName() + "'");
+            try {
+                Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }
     }
 
-    private GHMilestone getMilestone(GHRepository repository, String milestone) {
-        requireNonNull(repository);
-        requireNonNull(milestone);
+    private static boolean isTransient(IOException e) {
+        if (e instanceof GHFileNotFoundException) {
+            return false;
+        }
+
+        // timeouts are interrupted I/O as well, but only a thread interrupt should stop the retries
+        if (e instanceof InterruptedIOException) {
+            return e instanceof SocketTimeoutException;
+        }
+
+        if (e instanceof HttpException) {
+            final int responseCode = ((HttpException) e).getResponseCode();
+
+            return responseCode < 0 || responseCode >= 500;
+        }
 
-        return stream(repository.listMilestones(GHIssueState.ALL))
-            .filter(ghMilestone -> ghMilestone.getTitle().equals(milestone))
-            .findAny()
-            .orElseThrow(() -> new RuntimeException("Milestone '" + milestone + "' not found"));
+        return true;
     }
 
     private List<GHIssue> getMilestoneIssues(GHRepository repository, List<GHMilestone> milestones, List<String> ignoredLabels) {
         requireNonNull(repository);
         requireNonNull(milestones);
 
-        final List<Integer> milestoneNumbers = milestones.stream().map(GHMilestone::getNumber).collect(toList());
+        final LabelFilter labelFilter = LabelFilter.ignoring(ignoredLabels);
+        final List<GHIssue> issues = new ArrayList<>();
 
-        Stream<GHIssue> stream = stream(repository.listIssues(GHIssueState.ALL))
-            .filter(issue -> issue.getMilestone() != null && milestoneNumbers.contains(issue.getMilestone().getNumber()));
+        // the search index is only eventually consistent, which could miss recently updated issues
+        for (GHMilestone milestone : milestones) {
+            final PagedIterable<GHIssue> milestoneIssues = repository.queryIssues()
+                .milestone(String.valueOf(milestone.getNumber()))
+                .state(GHIssueState.ALL)
+                .pageSize(REQUEST_PAGE_SIZE)
+                .list();
 
-        if (ignoredLabels != null) {
-            stream = stream.filter(issue -> issue.getLabels().stream().noneMatch(label -> ignoredLabels.contains(label.getName())));
+            stream(milestoneIssues)
+                .filter(issue -> labelFilter.accepts(issue.getLabels().stream().map(GHLabel::getName).collect(toList())))
+                .forEach(issues::add);
         }
 
-        return stream.collect(toList());
+        return issues;
     }
 
     private <T> Stream<T> stream(Iterable<T> iterable) {
@@ -1,20 +1,28 @@
 package net.openhft.chronicle.releasenotes.connector.github;
 
+import net.openhft.chronicle.releasenotes.connector.CommitSource;
 import net.openhft.chronicle.releasenotes.connector.ConnectorProviderKey;
 import net.openhft.chronicle.releasenotes.connector.ReleaseConnector;
 import net.openhft.chronicle.releasenotes.connector.github.graphql.GitHubGraphQLClient;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.PullRequest;
 import net.openhft.chronicle.releasenotes.connector.github.graphql.model.Tag;
+import net.openhft.chronicle.releasenotes.connector.github.util.IntHashSet;
+import net.openhft.chronicle.releasenotes.connector.github.util.IssueReferenceScanner;
 import net.openhft.chronicle.releasenotes.creator.ReleaseNoteCreator;
 import net.openhft.chronicle.releasenotes.model.*;
 import org.kohsuke.github.*;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +37,7 @@ import static java.util.stream.Collectors.*;
 public final class GitHubReleaseConnector implements ReleaseConnector {
 
     private static final int REQUEST_PAGE_SIZE = 100;
+    private static final int AGGREGATE_CONCURRENCY = 8;
     private static final List<String> CLOSING_KEYWORDS = Arrays.asList(
         "close",
         "closes",
@@ -42,9 +51,16 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
     );
 
     private final GitHub github;
+    private final RepositoryCache repositoryCache;
     private final GitHubGraphQLClient graphQLClient;
     private final ReleaseNoteCreator releaseNoteCreator;
 
+    private final Map<String, TagIndex> tagIndices = new HashMap<>();
+    private final Map<String, MilestoneIndex> milestoneIndices = new HashMap<>();
+    private final Map<String, ReleaseIndex> releaseIndices = new HashMap<>();
+    private final Map<String, CommitIndex> commitIndices = new HashMap<>();
+    private final Map<String, IssueMirror> issueMirrors = new HashMap<>();
+
     private final Logger logger;
 
     public GitHubReleaseConnector(String token) throws IOException {
@@ -56,15 +72,12 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         requireNonNull(logger);
 
         this.github = new GitHubBuilder()
+            .withEndpoint(GitHubHttpClient.getApiUrl())
             .withOAuthToken(token)
-            .withRateLimitHandler(new RateLimitHandler() {
-                @Override
-                public void onError(IOException e, HttpURLConnection uc) throws IOException {
-                    throw e;
-                }
-            })
+            .withConnector(new OkHttpGitHubConnector(GitHubHttpClient.getSharedClient()))
             .build();
-        this.graphQLClient = new GitHubGraphQLClient(token);
+        this.repositoryCache = new RepositoryCache(github);
+        this.graphQLClient = new GitHubGraphQLClient(token, GitHubHttpClient.getSharedClient(), GitHubHttpClient.getGraphQLUrl());
         this.releaseNoteCreator = ReleaseNoteCreator.markdown();
         this.logger = logger;
     }
@@ -83,14 +96,18 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         try {
             repositoryRef = getRepository(repository);
 
+            final ReleaseAction action = releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE;
+            final CheckpointJournal journal = openBranchJournal(repositoryRef, tag, null, branch, action, releaseOptions);
+
             return getOrCreateRelease(
                 repositoryRef,
                 tag,
                 releaseOptions.getTitle() != null ? releaseOptions.getTitle() : tag,
-                () -> getIssuesForBranch(repositoryRef, branch, tag, releaseOptions.includeIssuesWithoutClosingKeyword(), releaseOptions.includePullRequests()),
+                () -> getIssuesForBranch(repositoryRef, branch, tag, null, releaseOptions, journal),
                 releaseOptions.getIgnoredLabels(),
-                releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE,
-                releaseOptions.includeAdditionalContext()
+                action,
+                releaseOptions.includeAdditionalContext(),
+                journal
             );
         } catch (RuntimeException e) {
             return ReleaseResult.fail(e);
@@ -112,14 +129,18 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         try {
             repositoryRef = getRepository(repository);
 
+            final ReleaseAction action = releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE;
+            final CheckpointJournal journal = openBranchJournal(repositoryRef, tag, endTag, branch, action, releaseOptions);
+
             return getOrCreateRelease(
                 repositoryRef,
                 tag,
                 releaseOptions.getTitle() != null ? releaseOptions.getTitle() : tag,
-                () -> getIssuesForBranch(repositoryRef, branch, tag, endTag, releaseOptions.includeIssuesWithoutClosingKeyword(), releaseOptions.includePullRequests()),
+                () -> getIssuesForBranch(repositoryRef, branch, tag, endTag, releaseOptions, journal),
                 releaseOptions.getIgnoredLabels(),
-                releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE,
-                releaseOptions.includeAdditionalContext()
+                action,
+                releaseOptions.includeAdditionalContext(),
+                journal
             );
         } catch (RuntimeException e) {
             return ReleaseResult.fail(e);
@@ -140,14 +161,27 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         try {
             repositoryRef = getRepository(repository);
 
+            final ReleaseAction action = releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE;
+            final CheckpointJournal journal = CheckpointJournal.open(
+                "milestone",
+                action,
+                repositoryRef.getFullName(),
+                tag,
+                milestone,
+                sortedLabels(releaseOptions.getIgnoredLabels()),
+                releaseOptions.includeAdditionalContext()
+            );
+
             return getOrCreateRelease(
                 repositoryRef,
                 tag,
                 tag,
-                () -> getClosedMilestoneIssues(repositoryRef, milestone),
+                () -> journal.checkpoint("issues", CheckpointJournal.ISSUES,
+                    () -> getClosedMilestoneIssues(repositoryRef, milestone, releaseOptions.getIgnoredLabels())),
                 releaseOptions.getIgnoredLabels(),
-                releaseOptions.overrideRelease() ? ReleaseAction.CREATE_OR_UPDATE : ReleaseAction.CREATE,
-                releaseOptions.includeAdditionalContext()
+                action,
+                releaseOptions.includeAdditionalContext(),
+                journal
             );
         } catch (RuntimeException e) {
             return ReleaseResult.fail(e);
@@ -185,7 +219,7 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         }
 
         try {
-            if (!checkTagExists(repositoryRef, tag)) {
+            if (!getTag(repositoryRef, tag).isPresent()) {
                 return ReleaseResult.fail(new RuntimeException("Tag '" + tag + "' not found"));
             }
 
@@ -194,31 +228,45 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
             final StringJoiner missingRepositoriesJoiner = new StringJoiner(", ");
             final StringJoiner missingReleasesJoiner = new StringJoiner(", ");
 
-            final Map<String, Map<String, GHRelease>> sourceReleases = releases.entrySet().stream()
-                .collect(toMap(Entry::getKey, entry -> {
-                    final GHRepository sourceRepository;
+            final List<ReleaseNotes> normalizedReleaseNotes = new ArrayList<>();
+
+            final int lookupCount = releases.size() + releases.values().stream().mapToInt(List::size).sum();
+            final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(AGGREGATE_CONCURRENCY, lookupCount)));
 
-                    try {
-                        sourceRepository = getRepository(entry.getKey());
-                    } catch (RuntimeException e) {
-                        missingRepositoriesJoiner.add(entry.getKey());
-                        return new HashMap<>();
+            try {
+                final Map<String, CompletableFuture<GHRepository>> repositoryLookups = new LinkedHashMap<>();
+                final Map<String, CompletableFuture<Map<String, GHRelease>>> releaseLookups = new LinkedHashMap<>();
+
+                releases.forEach((sourceRepository, sourceTags) -> {
+                    final CompletableFuture<GHRepository> repositoryLookup = CompletableFuture.supplyAsync(() -> getRepository(sourceRepository), executor);
+
+                    repositoryLookups.put(sourceRepository, repositoryLookup);
+                    releaseLookups.put(sourceRepository, repositoryLookup.thenApplyAsync(sourceRepositoryRef -> getReleases(sourceRepositoryRef, sourceTags), executor));
+                });
+
+                // results are collected in the order of the provided releases, independent of completion order
+                repositoryLookups.forEach((sourceRepository, repositoryLookup) -> {
+                    if (!awaitLookup(repositoryLookup)) {
+                        missingRepositoriesJoiner.add(sourceRepository);
+                        return;
                     }
 
-                    return entry.getValue().stream()
-                        .collect(HashMap::new, (m, v) -> {
-                            final GHRelease release;
+                    final GHRepository sourceRepositoryRef = repositoryLookup.join();
+
+                    final CompletableFuture<Map<String, GHRelease>> releaseLookup = releaseLookups.get(sourceRepository);
 
-                            try {
-                                release = getRelease(sourceRepository, v);
-                            } catch (RuntimeException e) {
-                                missingReleasesJoiner.add(sourceRepository.getName() + ":" + v);
-                                return;
-                            }
+                    if (!awaitLookup(releaseLookup)) {
+                        releases.get(sourceRepository).forEach(sourceTag -> missingReleasesJoiner.add(sourceRepositoryRef.getName() + ":" + sourceTag));
+                        return;
+                    }
 
-                            m.put(v, release);
-                        }, HashMap::putAll);
-                }));
+                    releaseLookup.join().forEach((sourceTag, release) -> normalizedReleaseNotes.add(release == null
+                        ? new ReleaseNotes(sourceTag, sourceTag, Collections.emptyList())
+                        : new ReleaseNotes(release.getTagName(), release.getName(), Collections.emptyList())));
+                });
+            } finally {
+                executor.shutdownNow();
+            }
 
             final String missingRepositories = missingRepositoriesJoiner.toString();
             final String missingReleases = missingReleasesJoiner.toString();
@@ -241,20 +289,6 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
                 return ReleaseResult.fail(new RuntimeException(exceptionMessage.toString()));
             }
 
-            final List<ReleaseNotes> normalizedReleaseNotes = sourceReleases.values().stream()
-                .map(stringGHReleaseMap -> stringGHReleaseMap.entrySet().stream().map(
-                    entry -> {
-                        final GHRelease release = entry.getValue();
-
-                        if (release == null) {
-                            return new ReleaseNotes(entry.getKey(), entry.getKey(), Collections.emptyList());
-                        }
-
-                        return new ReleaseNotes(release.getTagName(), release.getName(), Collections.emptyList());
-                    }).collect(toList()))
-                .flatMap(Collection::stream)
-                .collect(toList());
-
             AggregatedReleaseNotes aggregatedReleaseNotes = new AggregatedReleaseNotes(tag, tag, normalizedReleaseNotes);
 
             final String body = releaseNoteCreator.formatAggregatedReleaseNotes(aggregatedReleaseNotes);
@@ -266,14 +300,20 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
 
                 final GHRelease release = remoteRelease.update().name(tag).body(body).update();
 
+                getReleaseIndex(repositoryRef).put(release);
+
                 return ReleaseResult.success(aggregatedReleaseNotes, release.getHtmlUrl());
             }
 
             final GHRelease release = repositoryRef.createRelease(tag).name(tag).body(body).create();
 
+            getReleaseIndex(repositoryRef).put(release);
+
             return ReleaseResult.success(aggregatedReleaseNotes, release.getHtmlUrl());
         } catch (IOException e) {
             return ReleaseResult.fail(new RuntimeException("Failed to create release for tag '" + tag + "'"));
+        } catch (RuntimeException e) {
+            return ReleaseResult.fail(e);
         }
     }
 
@@ -283,10 +323,10 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         requireNonNull(tag);
         requireNonNull(releaseNotes);
 
-        final GHRepository repositoryRef = getRepository(repository);
-
         try {
-            if (!checkTagExists(repositoryRef, tag)) {
+            final GHRepository repositoryRef = getRepository(repository);
+
+            if (!getTag(repositoryRef, tag).isPresent()) {
                 return ReleaseResult.fail(new RuntimeException("Tag '" + tag + "' not found"));
             }
 
@@ -303,14 +343,20 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
 
                 final GHRelease release = remoteRelease.update().name(tag).body(body).update();
 
+                getReleaseIndex(repositoryRef).put(release);
+
                 return ReleaseResult.success(aggregatedReleaseNotes, release.getHtmlUrl());
             }
 
             final GHRelease release = repositoryRef.createRelease(tag).name(tag).body(body).create();
 
+            getReleaseIndex(repositoryRef).put(release);
+
             return ReleaseResult.success(aggregatedReleaseNotes, release.getHtmlUrl());
         } catch (IOException e) {
             return ReleaseResult.fail(new RuntimeException("Failed to create release for tag '" + tag + "'"));
+        } catch (RuntimeException e) {
+            return ReleaseResult.fail(e);
         }
     }
 
@@ -328,14 +374,17 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         try {
             repositoryRef = getRepository(repository);
 
+            final CheckpointJournal journal = openBranchJournal(repositoryRef, tag, null, branch, ReleaseAction.QUERY, releaseOptions);
+
             return getOrCreateRelease(
                     repositoryRef,
                     tag,
                     releaseOptions.getTitle() != null ? releaseOptions.getTitle() : tag,
-                    () -> getIssuesForBranch(repositoryRef, branch, tag, releaseOptions.includeIssuesWithoutClosingKeyword(), releaseOptions.includePullRequests()),
+                    () -> getIssuesForBranch(repositoryRef, branch, tag, null, releaseOptions, journal),
                     releaseOptions.getIgnoredLabels(),
                     ReleaseAction.QUERY,
-                    releaseOptions.includeAdditionalContext()
+                    releaseOptions.includeAdditionalContext(),
+                    journal
             );
         } catch (RuntimeException e) {
             return ReleaseResult.fail(e);
@@ -375,6 +424,48 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         }
     }
 
+    @Override
+    public Map<Integer, ReleaseResult<Issue>> createIssueComments(String repository, Collection<Integer> numbers, String message) {
+        requireNonNull(repository);
+        requireNonNull(numbers);
+        requireNonNull(message);
+
+        logger.info("Commenting {} issues in repository '{}'", numbers.size(), repository);
+
+        final Map<Integer, ReleaseResult<Issue>> results = new LinkedHashMap<>();
+
+        final GHRepository repositoryRef;
+        final Map<Integer, IssueOrPullRequest> issues;
+
+        try {
+            repositoryRef = getRepository(repository);
+            issues = graphQLClient.getIssues(repositoryRef.getOwnerName(), repositoryRef.getName(), numbers).stream()
+                .collect(toMap(IssueOrPullRequest::getNumber, issue -> issue, (first, second) -> first));
+        } catch (RuntimeException e) {
+            numbers.forEach(number -> results.put(number, ReleaseResult.fail(e)));
+            return results;
+        }
+
+        final Map<String, String> errors = graphQLClient.addComments(
+            issues.values().stream().map(IssueOrPullRequest::getId).collect(toList()),
+            message
+        );
+
+        for (final Integer number : numbers) {
+            final IssueOrPullRequest issue = issues.get(number);
+
+            if (issue == null) {
+                results.put(number, ReleaseResult.fail(new RuntimeException("Issue #" + number + " not found")));
+            } else if (errors.containsKey(issue.getId())) {
+                results.put(number, ReleaseResult.fail(new RuntimeException("Failed to comment issue #" + number + ": " + errors.get(issue.getId()))));
+            } else {
+                results.put(number, ReleaseResult.success(mapIssue(issue, Collections.emptyList()), issue.getUrl()));
+            }
+        }
+
+        return results;
+    }
+
     @Override
     public Class<? extends ConnectorProviderKey> getKey() {
         return GitHubConnectorProviderKey.class;
@@ -396,20 +487,37 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         }
     }
 
-    private ReleaseResult<ReleaseNotes> getOrCreateRelease(GHRepository repository, String tag, String title, Supplier<List<GHIssue>> issueSupplier, List<String> ignoredLabels, ReleaseAction action, boolean includeAdditionalContext) {
+    private ReleaseResult<ReleaseNotes> getOrCreateRelease(GHRepository repository, String tag, String title, Supplier<List<IssueOrPullRequest>> issueSupplier, List<String> ignoredLabels, ReleaseAction action, boolean includeAdditionalContext, CheckpointJournal journal) {
+        requireNonNull(journal);
+
+        final ReleaseResult<ReleaseNotes> releaseResult = resolveRelease(repository, tag, title, issueSupplier, ignoredLabels, action, includeAdditionalContext, journal);
+
+        // a failed run keeps its journal, so it can be resumed
+        if (releaseResult.isSuccess()) {
+            journal.complete();
+        }
+
+        return releaseResult;
+    }
+
+    private ReleaseResult<ReleaseNotes> resolveRelease(GHRepository repository, String tag, String title, Supplier<List<IssueOrPullRequest>> issueSupplier, List<String> ignoredLabels, ReleaseAction action, boolean includeAdditionalContext, CheckpointJournal journal) {
         requireNonNull(repository);
         requireNonNull(tag);
         requireNonNull(issueSupplier);
 
         try {
-            if (!checkTagExists(repository, tag)) {
+            if (!getTag(repository, tag).isPresent()) {
                 return ReleaseResult.fail(new RuntimeException("Tag '" + tag + "' not found"));
             }
 
-            final List<Issue> issues = filterIssueLabels(issueSupplier.get(), ignoredLabels)
-                .stream()
-                .map(issue -> mapIssue(issue, includeAdditionalContext))
-                .collect(toList());
+            final List<Issue> issues = journal.checkpoint("releaseIssues", CheckpointJournal.RELEASE_ISSUES, () -> {
+                final List<IssueOrPullRequest> filteredIssues = filterIssueLabels(issueSupplier.get(), ignoredLabels);
+                final Map<Integer, List<IssueComment>> comments = getIssueComments(repository, filteredIssues, includeAdditionalContext);
+
+                return filteredIssues.stream()
+                    .map(issue -> mapIssue(issue, comments.getOrDefault(issue.getNumber(), Collections.emptyList())))
+                    .collect(toList());
+            });
 
             final ReleaseNotes releaseNotes = new ReleaseNotes(tag, title, issues);
 
@@ -426,6 +534,8 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
                 if (action == ReleaseAction.CREATE_OR_UPDATE) {
                     final GHRelease release = remoteRelease.update().name(title).body(body).update();
 
+                    getReleaseIndex(repository).put(release);
+
                     htmlUrl = release.getHtmlUrl();
                 } else {
                     htmlUrl = remoteRelease.getHtmlUrl();
@@ -438,6 +548,8 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
 
             final GHRelease release = repository.createRelease(releaseNotes.getTag()).name(title).body(body).create();
 
+            getReleaseIndex(repository).put(release);
+
             return ReleaseResult.success(releaseNotes, release.getHtmlUrl());
         } catch (IOException e) {
             return ReleaseResult.fail(new RuntimeException("Failed to " + action.displayName() + " release for tag '" + tag + "'"));
@@ -450,12 +562,22 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         logger.debug("Fetching repository '{}'", repository);
 
         try {
-            return github.getRepository(repository);
+            return repositoryCache.getRepository(repository)
+                .orElseThrow(() -> new RuntimeException("Repository '" + repository + "' not found"));
         } catch (IOException e) {
             throw new RuntimeException("Repository '" + repository + "' not found");
         }
     }
 
+    /**
+     * Waits for a lookup to complete and returns true if it succeeded.
+     */
+    private boolean awaitLookup(CompletableFuture<?> lookup) {
+        lookup.handle((result, throwable) -> result).join();
+
+        return !lookup.isCompletedExceptionally();
+    }
+
     private GHBranch getBranch(GHRepository repository, String branch) {
         requireNonNull(repository);
         requireNonNull(branch);
@@ -469,131 +591,178 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         }
     }
 
-    private GHRelease getRelease(GHRepository repository, String tag) {
+    private Map<String, GHRelease> getReleases(GHRepository repository, List<String> tags) {
         requireNonNull(repository);
-        requireNonNull(tag);
+        requireNonNull(tags);
+
+        logger.debug("Fetching releases for tags {} in repository '{}'", tags, repository.getFullName());
+
+        return getReleaseIndex(repository).getReleases(tags);
+    }
+
+    private synchronized ReleaseIndex getReleaseIndex(GHRepository repository) {
+        requireNonNull(repository);
+
+        return releaseIndices.computeIfAbsent(repository.getFullName(), name -> new ReleaseIndex(repository));
+    }
+
+    private GHCommit getCommit(GHRepository repository, String sha1) {
+        requireNonNull(repository);
+        requireNonNull(sha1);
 
-        logger.debug("Fetching release for tag '{}' in repository '{}'", tag, repository.getFullName());
+        logger.debug("Fetching commit '{}' in repository '{}'", sha1, repository.getFullName());
 
         try {
-            return repository.getReleaseByTagName(tag);
+            return repository.getCommit(sha1);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to find release for tag '" + tag + "' in repository '" + repository.getName() + "'");
+            throw new RuntimeException("Failed to fetch commit '" + sha1 + "' in repository '" + repository.getFullName() + "'");
         }
     }
 
-    private Map<String, GHTag> getTags(GHRepository repository, String... tags) {
+    private Map<String, Tag> getTags(GHRepository repository, String... tags) {
         requireNonNull(repository);
         requireNonNull(tags);
 
         logger.debug("Fetching tags [{}] in repository '{}'", String.join(", ", tags), repository.getFullName());
 
-        final List<String> tagSet = Arrays.asList(tags);
+        final Map<String, Tag> collectedTags = new HashMap<>();
 
-        try {
-            final Map<String, GHTag> collectedTags = new HashMap<>();
-
-            for (GHTag tag : repository.listTags().withPageSize(REQUEST_PAGE_SIZE)) {
-                if (tagSet.contains(tag.getName())) {
-                    collectedTags.put(tag.getName(), tag);
-                }
+        for (String tag : tags) {
+            getTag(repository, tag).ifPresent(tagRef -> collectedTags.put(tag, tagRef));
+        }
 
-                if (collectedTags.size() == tagSet.size()) {
-                    return collectedTags;
-                }
-            }
+        if (collectedTags.size() == tags.length) {
+            return collectedTags;
+        }
 
-            final String missingTags = Arrays.stream(tags)
-                .filter(tag -> !collectedTags.containsKey(tag))
-                .collect(Collectors.joining(", "));
+        final String missingTags = Arrays.stream(tags)
+            .filter(tag -> !collectedTags.containsKey(tag))
+            .collect(Collectors.joining(", "));
 
-            throw new RuntimeException("Failed to find tag(s) [" + missingTags + "] in repository '" + repository.getFullName() + "'");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to fetch tags for repository '" + repository.getFullName() + "'");
-        }
+        throw new RuntimeException("Failed to find tag(s) [" + missingTags + "] in repository '" + repository.getFullName() + "'");
     }
 
-    private Optional<GHTag> getPreviousTag(GHRepository repository, GHBranch branch, GHTag tag) {
+    /**
+     * Walks the history of {@code tag} backwards, starting from the commit it
+     * points to, and returns the first tag found on the way. Commits are
+     * checked against the tagged commits of the {@link TagIndex} and paging
+     * stops as soon as a tagged commit is reached, so only the history
+     * between the two tags is fetched.
+     */
+    private Optional<Tag> getPreviousTag(GHRepository repository, Tag tag) {
         requireNonNull(repository);
-        requireNonNull(branch);
         requireNonNull(tag);
 
-        logger.debug("Fetching tag before tag '{}' in repository '{}' on branch '{}'", tag.getName(), repository.getFullName(), branch.getName());
+        logger.debug("Fetching tag before tag '{}' in repository '{}'", tag.getName(), repository.getFullName());
 
-        final List<String> commits = getCommitsForBranchFromTag(repository, branch, tag)
-            .stream()
-            .map(GHCommit::getSHA1)
-            .collect(toList());
+        final TagIndex tagIndex = getTagIndex(repository);
 
-        final String tagName = graphQLClient.getTags(repository.getOwnerName(), repository.getName()).stream()
-            .filter(t -> commits.contains(t.getCommitSHA1()) && !t.getName().equals(tag.getName()))
-            .limit(1)
-            .findFirst()
-            .map(Tag::getName)
-            .orElse(null);
+        final PagedIterable<GHCommit> commits = repository.queryCommits()
+            .from(tag.getCommitSHA1())
+            .pageSize(REQUEST_PAGE_SIZE)
+            .list();
 
-        if (tagName == null) {
-            return Optional.empty();
+        for (GHCommit commit : commits) {
+            for (String tagName : tagIndex.getTagNames(commit.getSHA1())) {
+                if (!tagName.equals(tag.getName())) {
+                    return tagIndex.getTag(tagName);
+                }
+            }
         }
 
-        return Optional.of(getTags(repository, tagName).get(tagName));
+        return Optional.empty();
     }
 
-    private boolean checkTagExists(GHRepository repository, String tag) {
+    private Optional<Tag> getTag(GHRepository repository, String tag) {
         requireNonNull(repository);
         requireNonNull(tag);
 
         logger.debug("Checking if tag '{}' exists in repository '{}'", tag, repository.getFullName());
 
-        try {
-            return stream(repository.listTags().withPageSize(REQUEST_PAGE_SIZE))
-                    .anyMatch(ghTag -> ghTag.getName().equals(tag));
-        } catch (IOException e) {
-            return false;
-        }
+        return getTagIndex(repository).getTag(tag);
     }
 
-    private List<GHCommit> getCommitsForBranchFromTag(GHRepository repository, GHBranch branch, GHTag tag) {
+    private synchronized TagIndex getTagIndex(GHRepository repository) {
         requireNonNull(repository);
-        requireNonNull(branch);
-        requireNonNull(tag);
-
-        logger.debug("Fetching commits for branch '{}' from tag '{}' in repository '{}'", branch.getName(), tag.getName(), repository.getFullName());
-
-        try {
-            final PagedIterable<GHCommit> commits =  repository.queryCommits()
-                .from(branch.getName())
-                .until(getCommitDate(tag.getCommit()))
-                .pageSize(REQUEST_PAGE_SIZE)
-                .list();
 
-            return commits.toList();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to fetch commits for branch '" + branch.getName() + "' in repository '" + repository.getName() + "'");
-        }
+        return tagIndices.computeIfAbsent(
+            repository.getFullName(),
+            name -> new TagIndex(graphQLClient, repository.getOwnerName(), repository.getName())
+        );
     }
 
-    private List<GHIssue> getIssuesForBranch(GHRepository repository, String branch, String startTag, boolean includeIssuesWithoutClosingKeyword, boolean includePullRequests) {
+    private List<IssueOrPullRequest> getIssuesForBranch(GHRepository repository, String branch, String startTag, String endTag, BranchReleaseOptions releaseOptions, CheckpointJournal journal) {
         requireNonNull(repository);
         requireNonNull(branch);
         requireNonNull(startTag);
+        requireNonNull(releaseOptions);
+        requireNonNull(journal);
+
+        logger.debug("Fetching issues on branch '{}' between tags '{}' and '{}' in repository '{}'", branch, startTag, endTag, repository.getFullName());
+
+        return journal.checkpoint("issues", CheckpointJournal.ISSUES, () -> {
+            final Set<Integer> issueIds = journal.checkpoint("issueIds", CheckpointJournal.ISSUE_IDS, () -> {
+                final List<Commit> commits = journal.checkpoint("commits", CheckpointJournal.COMMITS,
+                    () -> getCommits(repository, branch, startTag, endTag, releaseOptions.getCommitSource()));
 
-        return getIssuesForBranch(repository, branch, startTag, null, includeIssuesWithoutClosingKeyword, includePullRequests);
+                final Set<Integer> ids = extractIssueIdsFromCommits(repository, commits, releaseOptions.includeIssuesWithoutClosingKeyword());
+                if (releaseOptions.includePullRequests()) {
+                    extractPullRequestIdsFromCommits(repository, commits, branch, ids);
+                }
+                return ids;
+            });
+
+            return getIssuesFromIds(repository, issueIds, releaseOptions.includePullRequests());
+        });
     }
 
-    private List<GHIssue> getIssuesForBranch(GHRepository repository, String branch, String startTag, String endTag, boolean includeIssuesWithoutClosingKeyword, boolean includePullRequests) {
-        requireNonNull(repository);
-        requireNonNull(branch);
-        requireNonNull(startTag);
+    private CheckpointJournal openBranchJournal(GHRepository repository, String tag, String endTag, String branch, ReleaseAction action, BranchReleaseOptions releaseOptions) {
+        final CommitSource commitSource = releaseOptions.getCommitSource();
+        final String commitSourceRevision = commitSource != null ? commitSource.getRevision() : null;
 
-        logger.debug("Fetching issues on branch '{}' between tags '{}' and '{}' in repository '{}'", branch, startTag, endTag, repository.getFullName());
+        // the commits of a source without a revision may change between runs
+        if (commitSource != null && commitSourceRevision == null) {
+            return CheckpointJournal.disabled();
+        }
+
+        // runs of different actions don't share checkpoints, a query must not resume a create
+        return CheckpointJournal.open(
+            "branch",
+            action,
+            repository.getFullName(),
+            tag,
+            endTag,
+            branch,
+            releaseOptions.includeIssuesWithoutClosingKeyword(),
+            releaseOptions.includePullRequests(),
+            commitSourceRevision,
+            sortedLabels(releaseOptions.getIgnoredLabels()),
+            releaseOptions.includeAdditionalContext()
+        );
+    }
+
+    private static List<String> sortedLabels(List<String> labels) {
+        return labels == null ? Collections.emptyList() : labels.stream().sorted().distinct().collect(toList());
+    }
+
+    private List<Commit> getCommits(GHRepository repository, String branch, String startTag, String endTag, CommitSource commitSource) {
+        if (commitSource != null) {
+            logger.debug("Reading commits for branch '{}' between tags '{}' and '{}' from {}", branch, startTag, endTag, commitSource);
+
+            return commitSource.getCommits(branch, startTag, endTag);
+        }
+
+        return getCommitsForBranch(repository, branch, startTag, endTag).stream()
+            .map(this::toCommit)
+            .collect(toList());
+    }
 
-        final List<GHCommit> commits = getCommitsForBranch(repository, branch, startTag, endTag);
-        final Set<Integer> issueIds = extractIssueIdsFromCommits(commits, includeIssuesWithoutClosingKeyword);
-        if (includePullRequests) {
-            extractPullRequestIdsFromCommits(commits, branch, issueIds);
+    private Commit toCommit(GHCommit commit) {
+        try {
+            return new Commit(commit.getSHA1(), commit.getCommitShortInfo().getMessage());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch commit info for commit '" + commit.getSHA1() + "'");
         }
-        return getIssuesFromIds(repository, issueIds, includePullRequests);
     }
 
     private List<GHCommit> getCommitsForBranch(GHRepository repository, String branch, String startTag, String endTag) {
@@ -604,174 +773,216 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         logger.debug("Fetching commits for branch '{}' between tags '{}' and '{}' in repository '{}'", branch, startTag, endTag, repository.getFullName());
 
         final GHBranch branchRef = getBranch(repository, branch);
-        final Map<String, GHTag> tags = endTag == null ? getTags(repository, startTag) : getTags(repository, startTag, endTag);
+        final Map<String, Tag> tags = endTag == null ? getTags(repository, startTag) : getTags(repository, startTag, endTag);
 
-        final GHTag endTagRef = endTag == null
-            ? getPreviousTag(repository, branchRef, tags.get(startTag)).orElse(null)
+        final Tag startTagRef = tags.get(startTag);
+        final Tag endTagRef = endTag == null
+            ? getPreviousTag(repository, startTagRef).orElse(null)
             : tags.get(endTag);
 
-        final GHCommit startCommit = tags.get(startTag).getCommit();
-        final GHCommit endCommit = endTagRef == null ? null : endTagRef.getCommit();
-
-        if (endCommit != null && getCommitDate(startCommit).before(getCommitDate(endCommit))) {
-            throw new RuntimeException("Start tag '" + startTag + "' has a commit date before end tag '" + endTag + "'");
+        if (!isOnBranch(repository, branchRef, startTagRef)) {
+            throw new RuntimeException("Tag '" + startTag + "' not found on branch '" + branch + "'");
         }
 
-        try {
-            final GHCommitQueryBuilder commitQueryBuilder = branchRef.getOwner().queryCommits()
-                .from(branchRef.getSHA1())
-                .until(getCommitDate(startCommit))
-                .pageSize(REQUEST_PAGE_SIZE);
+        if (endTagRef == null) {
+            return getCommitsFromTag(repository, startTagRef);
+        }
 
-            if (endCommit != null) {
-                commitQueryBuilder.since(getCommitDate(endCommit));
-            }
+        final GHCompare compare = compare(repository, endTagRef.getCommitSHA1(), startTagRef.getCommitSHA1());
 
-            final List<GHCommit> commits = commitQueryBuilder.list().withPageSize(REQUEST_PAGE_SIZE).toList();
+        switch (compare.getStatus()) {
+            case identical:
+                return new ArrayList<>();
+            case behind:
+                throw new RuntimeException("Start tag '" + startTag + "' is behind end tag '" + endTagRef.getName() + "'");
+            case diverged:
+                if (!isOnBranch(repository, branchRef, endTagRef)) {
+                    throw new RuntimeException("Tag '" + endTagRef.getName() + "' not found on branch '" + branch + "'");
+                }
+                break;
+            default:
+                break;
+        }
 
-            if (commits.stream().noneMatch(commit -> commit.getSHA1().equals(startCommit.getSHA1()))) {
-                throw new RuntimeException("Tag '" + startTag + "' not found on branch '" + branch + "'");
-            }
+        final List<GHCommit> commits = new ArrayList<>(compare.getTotalCommits());
 
-            if (endCommit != null && commits.stream().noneMatch(commit -> commit.getSHA1().equals(endCommit.getSHA1()))) {
-                throw new RuntimeException("Tag '" + endTagRef.getName() + "' not found on branch '" + branch + "'");
-            }
+        for (GHCompare.Commit commit : compare.listCommits().withPageSize(REQUEST_PAGE_SIZE)) {
+            commits.add(commit);
+        }
 
-            if (endCommit == null) {
-                return commits;
-            }
+        if (commits.size() < compare.getTotalCommits()) {
+            logger.debug("Comparison between tags '{}' and '{}' was truncated to {} of {} commits, falling back to commit dates",
+                endTagRef.getName(), startTag, commits.size(), compare.getTotalCommits());
 
-            return commits.stream()
-                .filter(ghCommit -> getCommitDate(ghCommit).after(getCommitDate(endCommit)))
-                .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to fetch commits for branch '" + branchRef.getName() + "' in repository '" + branchRef.getOwner().getName() + "'");
+            return getCommitsForBranchByDate(repository, branchRef, startTagRef, endTagRef);
         }
+
+        // compare lists commits oldest first, keep the newest first order of the commits API
+        Collections.reverse(commits);
+
+        return commits;
     }
 
-    private Set<Integer> extractIssueIdsFromCommits(List<GHCommit> commits, boolean includeIssuesWithoutClosingKeyword) {
-        logger.debug("Extracting issue ids from {} commits", commits.size());
-        return commits.stream()
-                .map(commit -> {
-                    final Set<Integer> ids = new HashSet<>();
-                    extractIssueIdsFromCommit(commit, includeIssuesWithoutClosingKeyword, ids);
-                    return ids;
-                }).flatMap(Collection::stream)
-                .collect(toSet());
+    /**
+     * Compares {@code base...head}. Only the first page of the commits
+     * reachable from {@code head} but not from {@code base} is fetched, the
+     * rest is paged through by {@link GHCompare#listCommits()}.
+     */
+    private GHCompare compare(GHRepository repository, String base, String head) {
+        requireNonNull(repository);
+        requireNonNull(base);
+        requireNonNull(head);
+
+        logger.debug("Comparing '{}...{}' in repository '{}'", base, head, repository.getFullName());
+
+        try {
+            return repository.getCompare(base, head);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compare '" + base + "..." + head + "' in repository '" + repository.getFullName() + "'");
+        }
     }
 
-    private void extractPullRequestIdsFromCommits(List<GHCommit> commits, String branch, Set<Integer> issueIds) {
-        logger.debug("Extracting issue ids from {} commits", commits.size());
-        commits.forEach(commit -> updatePullRequestIds(commit, issueIds, branch));
+    /**
+     * Checks whether the branch contains the tagged commit. Only the status
+     * of the comparison is read, none of its commits are paged through.
+     */
+    private boolean isOnBranch(GHRepository repository, GHBranch branch, Tag tag) {
+        return compare(repository, tag.getCommitSHA1(), branch.getSHA1()).getBehindBy() == 0;
     }
 
-    private void extractIssueIdsFromCommit(GHCommit commit, boolean includeIssuesWithoutClosingKeyword, Set<Integer> ids) {
-        requireNonNull(commit);
+    private List<GHCommit> getCommitsFromTag(GHRepository repository, Tag tag) {
+        requireNonNull(repository);
+        requireNonNull(tag);
 
-        logger.debug("Extracting issue ids from commit '{}' in repository '{}'", commit.getSHA1(), commit.getOwner().getFullName());
+        logger.debug("Fetching all commits from tag '{}' in repository '{}'", tag.getName(), repository.getFullName());
 
         try {
-            getIssueIdsFromCommitMessage(commit, includeIssuesWithoutClosingKeyword, ids);
+            return repository.queryCommits()
+                .from(tag.getCommitSHA1())
+                .pageSize(REQUEST_PAGE_SIZE)
+                .list()
+                .toList();
         } catch (IOException e) {
-            throw new RuntimeException("Failed to fetch commit info for commit '" + commit.getSHA1() + "'");
+            throw new RuntimeException("Failed to fetch commits from tag '" + tag.getName() + "' in repository '" + repository.getName() + "'");
         }
     }
 
-    private void updatePullRequestIds(GHCommit commit, Set<Integer> ids, String branch) {
-        PagedIterable<GHPullRequest> ghPullRequests = commit.listPullRequests().withPageSize(REQUEST_PAGE_SIZE);
-        for (GHPullRequest ghPullRequest : ghPullRequests) {
-//            skip pull request that go from release branch back to development branch
-            String ref = ghPullRequest.getHead().getRef();
-            if (ref.equals(branch)) continue;
-            ids.add(ghPullRequest.getNumber());
+    private List<GHCommit> getCommitsForBranchByDate(GHRepository repository, GHBranch branchRef, Tag startTag, Tag endTag) {
+        final GHCommit startCommit = getCommit(repository, startTag.getCommitSHA1());
+        final GHCommit endCommit = getCommit(repository, endTag.getCommitSHA1());
+
+        try {
+            final List<GHCommit> commits = branchRef.getOwner().queryCommits()
+                .from(branchRef.getSHA1())
+                .until(getCommitDate(startCommit))
+                .since(getCommitDate(endCommit))
+                .pageSize(REQUEST_PAGE_SIZE)
+                .list()
+                .withPageSize(REQUEST_PAGE_SIZE)
+                .toList();
+
+            if (commits.stream().noneMatch(commit -> commit.getSHA1().equals(startCommit.getSHA1()))) {
+                throw new RuntimeException("Tag '" + startTag.getName() + "' not found on branch '" + branchRef.getName() + "'");
+            }
+
+            if (commits.stream().noneMatch(commit -> commit.getSHA1().equals(endCommit.getSHA1()))) {
+                throw new RuntimeException("Tag '" + endTag.getName() + "' not found on branch '" + branchRef.getName() + "'");
+            }
+
+            return commits.stream()
+                .filter(ghCommit -> getCommitDate(ghCommit).after(getCommitDate(endCommit)))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch commits for branch '" + branchRef.getName() + "' in repository '" + branchRef.getOwner().getName() + "'");
         }
     }
 
-    private void getIssueIdsFromCommitMessage(GHCommit commit, boolean includeIssuesWithoutClosingKeyword, Set<Integer> ids) throws IOException {
-        final String commitMessage = commit.getCommitShortInfo().getMessage()
-                .replaceAll("\n", " ")
-                .replaceAll("\r", "")
-                .replaceAll(" +", " ")
-                .replaceAll(",", "");
+    private Set<Integer> extractIssueIdsFromCommits(GHRepository repository, List<Commit> commits, boolean includeIssuesWithoutClosingKeyword) {
+        final CommitIndex commitIndex = getCommitIndex(repository);
 
-        final String[] tokens = commitMessage.split(" ");
-        for (int i = 0; i < tokens.length; i++) {
-            final String token = tokens[i];
+        final List<Commit> unindexedCommits = commits.stream()
+            .filter(commit -> commitIndex.getIssueReferences(commit.getSHA1()) == null)
+            .collect(toList());
 
-            if (!includeIssuesWithoutClosingKeyword) {
-                if (!isClosingKeyword(token)) {
-                    continue;
-                }
+        logger.debug("Extracting issue ids from {} commits ({} already indexed)", unindexedCommits.size(), commits.size() - unindexedCommits.size());
 
-                if (i == tokens.length - 1) {
-                    continue;
-                }
-            }
+        if (!unindexedCommits.isEmpty()) {
+            final IssueReferenceScanner scanner = new IssueReferenceScanner(CLOSING_KEYWORDS, repository.getHtmlUrl().toString());
+            final IntHashSet closingIds = new IntHashSet();
+            final IntHashSet referencedIds = new IntHashSet();
+            final Map<String, CommitIndex.IssueReferences> references = new LinkedHashMap<>();
 
-            final String tokenToCheck = includeIssuesWithoutClosingKeyword ? token : tokens[i + 1];
+            // both variants are indexed, so the index serves runs with either setting
+            for (Commit commit : unindexedCommits) {
+                closingIds.clear();
+                referencedIds.clear();
 
-            if (isLocalIssueReference(tokenToCheck)) {
-                ids.add(Integer.valueOf(tokenToCheck.substring(1)));
+                scanner.scan(commit.getMessage(), false, closingIds);
+                scanner.scan(commit.getMessage(), true, referencedIds);
 
-                if (!includeIssuesWithoutClosingKeyword) {
-                    i++;
-                }
-                continue;
+                references.put(commit.getSHA1(), new CommitIndex.IssueReferences(closingIds.toArray(), referencedIds.toArray()));
             }
 
-            if (isUrlIssueReference(commit.getOwner(), tokenToCheck)) {
-                ids.add(Integer.valueOf(tokenToCheck.substring(tokenToCheck.lastIndexOf("/") + 1)));
+            commitIndex.putIssueReferences(references);
+        }
 
-                if (!includeIssuesWithoutClosingKeyword) {
-                    i++;
-                }
+        final Set<Integer> issueIds = new HashSet<>();
+
+        for (Commit commit : commits) {
+            for (int id : commitIndex.getIssueReferences(commit.getSHA1()).getIssueIds(includeIssuesWithoutClosingKeyword)) {
+                issueIds.add(id);
             }
         }
-    }
 
-    private boolean isClosingKeyword(String token) {
-        return CLOSING_KEYWORDS.contains(token.toLowerCase());
+        return issueIds;
     }
 
-    private boolean isLocalIssueReference(String token) {
-        requireNonNull(token);
+    private void extractPullRequestIdsFromCommits(GHRepository repository, List<Commit> commits, String branch, Set<Integer> issueIds) {
+        final CommitIndex commitIndex = getCommitIndex(repository);
 
-        if (!token.startsWith("#")) {
-            return false;
-        }
+        final List<String> oids = commits.stream()
+            .map(Commit::getSHA1)
+            .filter(oid -> commitIndex.getPullRequests(oid) == null)
+            .distinct()
+            .collect(toList());
 
-        final String issueId = token.substring(1);
+        logger.debug("Extracting pull request ids from {} commits ({} already indexed)", oids.size(), commits.size() - oids.size());
 
-        if (!issueId.chars().allMatch(Character::isDigit)) {
-            return false;
+        if (!oids.isEmpty()) {
+            commitIndex.putPullRequests(graphQLClient.getAssociatedPullRequests(repository.getOwnerName(), repository.getName(), oids));
         }
 
-        return issueId.charAt(0) != '0';
-    }
-
-    private boolean isUrlIssueReference(GHRepository repository, String token) {
-        requireNonNull(token);
+        for (Commit commit : commits) {
+            final List<PullRequest> pullRequests = commitIndex.getPullRequests(commit.getSHA1());
 
-        if (!token.startsWith(repository.getHtmlUrl().toString())) {
-            return false;
+            if (pullRequests != null) {
+                updatePullRequestIds(pullRequests, issueIds, branch);
+            }
         }
+    }
 
-        final String[] split = token.split("/");
+    private synchronized IssueMirror getIssueMirror(GHRepository repository) {
+        requireNonNull(repository);
 
-        if (!split[split.length - 2].equals("issues")) {
-            return false;
-        }
+        return issueMirrors.computeIfAbsent(repository.getFullName(), name -> new IssueMirror(repository));
+    }
 
-        final String issueId = split[split.length - 1];
+    private synchronized CommitIndex getCommitIndex(GHRepository repository) {
+        requireNonNull(repository);
 
-        if (!issueId.chars().allMatch(Character::isDigit)) {
-            return false;
-        }
+        return commitIndices.computeIfAbsent(repository.getFullName(), CommitIndex::new);
+    }
 
-        return issueId.charAt(0) != '0';
+    private void updatePullRequestIds(List<PullRequest> pullRequests, Set<Integer> ids, String branch) {
+        for (PullRequest pullRequest : pullRequests) {
+//            skip pull request that go from release branch back to development branch
+            String ref = pullRequest.getHeadRefName();
+            if (ref.equals(branch)) continue;
+            ids.add(pullRequest.getNumber());
+        }
     }
 
-    private List<GHIssue> getIssuesFromIds(GHRepository repository, Set<Integer> ids, boolean includePullRequests) {
+    private List<IssueOrPullRequest> getIssuesFromIds(GHRepository repository, Set<Integer> ids, boolean includePullRequests) {
         requireNonNull(repository);
 
         if (ids.isEmpty()) {
@@ -780,24 +991,61 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
 
         logger.debug("Fetching {} issues from repository '{}'", ids.size(), repository.getFullName());
 
-        return stream(repository.listIssues(GHIssueState.CLOSED).withPageSize(REQUEST_PAGE_SIZE))
-            .filter(ghIssue -> ids.contains(ghIssue.getNumber()) && (includePullRequests || !ghIssue.isPullRequest()))
+        final List<Integer> numbers = ids.stream()
+            .sorted(Comparator.reverseOrder())
+            .collect(toList());
+
+        final IssueMirror issueMirror = getIssueMirror(repository);
+        final Optional<Map<Integer, IssueOrPullRequest>> mirroredIssues = issueMirror.getIssues(numbers, true);
+
+        final List<IssueOrPullRequest> issues;
+
+        if (mirroredIssues.isPresent()) {
+            final List<Integer> unknownNumbers = numbers.stream()
+                .filter(number -> !issueMirror.contains(number))
+                .collect(toList());
+
+            logger.debug("Found {} closed issues in the issue mirror, fetching {} unknown issues", mirroredIssues.get().size(), unknownNumbers.size());
+
+            issues = new ArrayList<>(mirroredIssues.get().values());
+
+            if (!unknownNumbers.isEmpty()) {
+                issues.addAll(graphQLClient.getClosedIssues(repository.getOwnerName(), repository.getName(), unknownNumbers));
+                issues.sort(Comparator.comparingInt(IssueOrPullRequest::getNumber).reversed());
+            }
+        } else {
+            issues = graphQLClient.getClosedIssues(repository.getOwnerName(), repository.getName(), numbers);
+        }
+
+        return issues.stream()
+            .filter(issue -> includePullRequests || !issue.isPullRequest())
             .collect(toList());
     }
 
-    private List<GHIssue> filterIssueLabels(List<GHIssue> issues, List<String> ignoredLabels) {
+    private List<IssueOrPullRequest> filterIssueLabels(List<IssueOrPullRequest> issues, List<String> ignoredLabels) {
         requireNonNull(issues);
 
-        if (ignoredLabels == null) {
+        final LabelFilter labelFilter = LabelFilter.ignoring(ignoredLabels);
+
+        if (labelFilter.isEmpty()) {
             return issues;
         }
 
         return issues.stream()
-            .filter(issue -> issue.getLabels().stream()
-            .noneMatch(ghLabel -> ignoredLabels.contains(ghLabel.getName())))
+            .filter(issue -> labelFilter.accepts(issue.getLabels()))
             .collect(toList());
     }
 
+    private FullIssue mapIssue(IssueOrPullRequest issue, List<IssueComment> comments) {
+        return new FullIssue(
+            issue.getNumber(),
+            issue.getTitle(),
+            issue.getLabels(),
+            comments,
+            issue.getUrl()
+        );
+    }
+
     private FullIssue mapIssue(GHIssue issue, boolean includeAdditionalContext) {
         return new FullIssue(
             issue.getNumber(),
@@ -808,6 +1056,23 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         );
     }
 
+    private Map<Integer, List<IssueComment>> getIssueComments(GHRepository repository, List<IssueOrPullRequest> issues, boolean includeAdditionalContext) {
+        if (!includeAdditionalContext || issues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        logger.debug("Fetching comments for {} issues from repository '{}'", issues.size(), repository.getFullName());
+
+        final List<Integer> numbers = issues.stream()
+            .map(IssueOrPullRequest::getNumber)
+            .collect(toList());
+
+        return graphQLClient.getComments(repository.getOwnerName(), repository.getName(), numbers).entrySet().stream()
+            .collect(toMap(Entry::getKey, entry -> entry.getValue().stream()
+                .map(comment -> new IssueComment(comment.getBody(), comment.getCreatedAt()))
+                .collect(toList())));
+    }
+
     private List<IssueComment> mapIssueComments(GHIssue issue, boolean includeAdditionalContext) {
         if (!includeAdditionalContext) {
             return Collections.emptyList();
@@ -828,27 +1093,75 @@ public final class GitHubReleaseConnector implements ReleaseConnector {
         }
     }
 
-    private List<GHIssue> getClosedMilestoneIssues(GHRepository repository, String milestone) {
+    private List<IssueOrPullRequest> getClosedMilestoneIssues(GHRepository repository, String milestone, List<String> ignoredLabels) {
         requireNonNull(repository);
         requireNonNull(milestone);
 
         final GHMilestone milestoneRef = getMilestone(repository, milestone);
+        final LabelFilter labelFilter = LabelFilter.ignoring(ignoredLabels);
 
-        return stream(repository.listIssues(GHIssueState.CLOSED).withPageSize(REQUEST_PAGE_SIZE))
-            .filter(ghIssue -> ghIssue.getMilestone() != null && ghIssue.getMilestone().getNumber() == milestoneRef.getNumber())
+        final Optional<List<IssueOrPullRequest>> mirroredIssues = getIssueMirror(repository).getMilestoneIssues(milestoneRef.getNumber(), true);
+
+        if (mirroredIssues.isPresent()) {
+            logger.debug("Reading closed issues of milestone '{}' from the issue mirror of repository '{}'", milestone, repository.getFullName());
+
+            return mirroredIssues.get().stream()
+                .filter(issue -> labelFilter.accepts(issue.getLabels()))
+                .collect(toList());
+        }
+
+        if (!labelFilter.isEmpty()) {
+            logger.debug("Searching closed issues of milestone '{}' without labels {} in repository '{}'", milestone, ignoredLabels, repository.getFullName());
+
+            final Optional<List<GHIssue>> foundIssues = IssueSearch.findMilestoneIssues(github, repository, milestoneRef, GHIssueState.CLOSED, labelFilter);
+
+            if (foundIssues.isPresent()) {
+                return foundIssues.get().stream()
+                    .map(this::toIssueOrPullRequest)
+                    .collect(toList());
+            }
+
+            logger.debug("Too many search results for milestone '{}', falling back to listing its issues", milestone);
+        }
+
+        logger.debug("Fetching closed issues of milestone '{}' (#{}) in repository '{}'", milestone, milestoneRef.getNumber(), repository.getFullName());
+
+        final PagedIterable<GHIssue> issues = repository.queryIssues()
+            .milestone(String.valueOf(milestoneRef.getNumber()))
+            .state(GHIssueState.CLOSED)
+            .pageSize(REQUEST_PAGE_SIZE)
+            .list();
+
+        return stream(issues)
+            .map(this::toIssueOrPullRequest)
             .collect(toList());
     }
 
+    private IssueOrPullRequest toIssueOrPullRequest(GHIssue issue) {
+        return new IssueOrPullRequest(
+            issue.getNodeId(),
+            issue.getNumber(),
+            issue.getTitle(),
+            issue.getLabels().stream().map(GHLabel::getName).collect(toList()),
+            issue.getHtmlUrl(),
+            issue.isPullRequest()
+        );
+    }
+
     private GHMilestone getMilestone(GHRepository repository, String milestone) {
         requireNonNull(repository);
         requireNonNull(milestone);
 
-        return stream(repository.listMilestones(GHIssueState.ALL).withPageSize(REQUEST_PAGE_SIZE))
-            .filter(ghMilestone -> ghMilestone.getTitle().equals(milestone))
-            .findAny()
+        return getMilestoneIndex(repository).getMilestone(milestone)
             .orElseThrow(() -> new RuntimeException("Milestone '" + milestone + "' not found"));
     }
 
+    private synchronized MilestoneIndex getMilestoneIndex(GHRepository repository) {
+        requireNonNull(repository);
+
+        return milestoneIndices.computeIfAbsent(repository.getFullName(), name -> new MilestoneIndex(repository));
+    }
+
     private Date getCommitDate(GHCommit commit) {
         try {
             return commit.getCommitDate();
@@ -0,0 +1,205 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records the HTTP traffic of the GitHub connectors into a file, or
+ * replays a previous recording instead of accessing the network.
+ * <p>
+ * Every exchange is appended as a JSON line, without the request headers.
+ * When replaying, requests are matched by method, url and body hash, and
+ * identical requests are answered in the order they were recorded.
+ */
+final class HttpRecorder implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpRecorder.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final boolean replay;
+    private final boolean preserveTiming;
+
+    private final Map<String, Deque<JsonNode>> exchanges = new HashMap<>();
+
+    private HttpRecorder(Path file, boolean replay, boolean preserveTiming) {
+        this.file = requireNonNull(file);
+        this.replay = replay;
+        this.preserveTiming = preserveTiming;
+    }
+
+    /**
+     * Creates an interceptor appending all exchanges to the provided file.
+     */
+    static HttpRecorder record(Path file) throws IOException {
+        requireNonNull(file);
+
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+
+        LOGGER.info("Recording GitHub requests to '{}'", file);
+
+        return new HttpRecorder(file, false, false);
+    }
+
+    /**
+     * Creates an interceptor answering all requests from the provided
+     * recording.
+     *
+     * @param file containing the recording
+     * @param preserveTiming whether responses are delayed by their recorded response time
+     */
+    static HttpRecorder replay(Path file, boolean preserveTiming) throws IOException {
+        requireNonNull(file);
+
+        final HttpRecorder recorder = new HttpRecorder(file, true, preserveTiming);
+
+        try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                final JsonNode exchange = MAPPER.readTree(line);
+
+                recorder.exchanges
+                    .computeIfAbsent(key(exchange.path("method").asText(), exchange.path("url").asText(), exchange.path("requestBody").asText()), key -> new ArrayDeque<>())
+                    .add(exchange);
+            }
+        }
+
+        LOGGER.info("Replaying GitHub requests from '{}'", file);
+
+        return recorder;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        return replay ? replay(chain.request()) : record(chain);
+    }
+
+    private Response record(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final long start = System.nanoTime();
+
+        final Response response = chain.proceed(request);
+
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        final ResponseBody body = response.peekBody(Long.MAX_VALUE);
+
+        final ObjectNode exchange = MAPPER.createObjectNode()
+            .put("method", request.method())
+            .put("url", request.url().toString())
+            .put("requestBody", hashBody(request))
+            .put("code", response.code())
+            .put("message", response.message())
+            .put("elapsedMillis", elapsedMillis);
+
+        final ArrayNode headers = exchange.putArray("headers");
+
+        for (int i = 0; i < response.headers().size(); i++) {
+            headers.addArray().add(response.headers().name(i)).add(response.headers().value(i));
+        }
+
+        exchange.put("body", body.string());
+
+        append(MAPPER.writeValueAsString(exchange));
+
+        return response;
+    }
+
+    private synchronized void append(String line) throws IOException {
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.write('\n');
+        }
+    }
+
+    private Response replay(Request request) throws IOException {
+        final JsonNode exchange = nextExchange(request);
+
+        if (preserveTiming) {
+            try {
+                Thread.sleep(exchange.path("elapsedMillis").asLong());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while replaying " + request.method() + " " + request.url());
+            }
+        }
+
+        final Headers.Builder headers = new Headers.Builder();
+
+        for (JsonNode header : exchange.path("headers")) {
+            headers.add(header.path(0).asText(), header.path(1).asText());
+        }
+
+        final String contentType = headers.get("Content-Type");
+        final long now = System.currentTimeMillis();
+
+        return new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(exchange.path("code").asInt())
+            .message(exchange.path("message").asText())
+            .headers(headers.build())
+            .body(ResponseBody.create(exchange.path("body").asText(), contentType != null ? MediaType.parse(contentType) : null))
+            .sentRequestAtMillis(now)
+            .receivedResponseAtMillis(now)
+            .build();
+    }
+
+    private synchronized JsonNode nextExchange(Request request) throws IOException {
+        final Deque<JsonNode> recorded = exchanges.get(key(request.method(), request.url().toString(), hashBody(request)));
+
+        if (recorded == null) {
+            throw new IOException("No recorded response for " + request.method() + " " + request.url() + " in '" + file + "'");
+        }
+
+        // the last response is kept to answer repeated requests
+        return recorded.size() > 1 ? recorded.poll() : recorded.peek();
+    }
+
+    private static String hashBody(Request request) throws IOException {
+        if (request.body() == null) {
+            return "";
+        }
+
+        final Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+
+        return buffer.sha256().hex();
+    }
+
+    private static String key(String method, String url, String requestBody) {
+        return method + ' ' + url + ' ' + requestBody;
+    }
+}
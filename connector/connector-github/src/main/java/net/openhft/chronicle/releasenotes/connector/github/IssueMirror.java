@@ -0,0 +1,545 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import org.kohsuke.github.GHDirection;
+import org.kohsuke.github.GHIssue;
+import org.kohsuke.github.GHIssueQueryBuilder;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A local mirror of the issue and pull request metadata (title, labels,
+ * state, milestone and url) of a single repository, stored in an
+ * append-only file below {@value #MIRROR_DIRECTORY_PROPERTY}.
+ * <p>
+ * Listing every issue of a repository is only done when enabled with
+ * {@value #MIRROR_BACKFILL_PROPERTY}. Until that backfill completed the
+ * mirror is not used, afterwards it is brought up to date by listing
+ * the issues updated since the last sync. Issues which are deleted or
+ * transferred to another repository are not listed as updated, so they
+ * stay in the mirror with their last known state.
+ * <p>
+ * The file starts with a header (magic, version, sync time and whether
+ * the backfill completed), followed by length-prefixed records. Records
+ * are only ever appended, the latest record of an issue wins. The sync
+ * time is only advanced once the records up to it are persisted, and a
+ * partially written record at the end is truncated when opening. The
+ * file never shrinks below a complete record, it is replaced atomically
+ * when compacted or reset instead, so existing mappings stay readable.
+ * <p>
+ * Syncing holds an exclusive lock on a sibling {@code .lock} file and
+ * reading holds a shared one. The mirror is not used while another
+ * process holds a conflicting lock.
+ */
+final class IssueMirror {
+
+    static final String MIRROR_DIRECTORY_PROPERTY = "chronicle.releasenotes.mirror.dir";
+    static final String MIRROR_ENABLED_PROPERTY = "chronicle.releasenotes.mirror.enabled";
+    static final String MIRROR_BACKFILL_PROPERTY = "chronicle.releasenotes.mirror.backfill";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IssueMirror.class);
+
+    private static final String DEFAULT_MIRROR_DIRECTORY = System.getProperty("user.home") + File.separator + ".chronicle-release-notes" + File.separator + "mirror";
+
+    private static final int MAGIC = 0x43524e4d;
+    // bump whenever the record layout changes
+    private static final int VERSION = 2;
+    static final int SYNC_TIME_OFFSET = 8;
+    private static final int POPULATED_OFFSET = 16;
+    private static final int HEADER_SIZE = 20;
+
+    private static final int REQUEST_PAGE_SIZE = 100;
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final byte CLOSED = 1;
+    private static final byte PULL_REQUEST = 2;
+
+    private final GHRepository repository;
+    private final Path file;
+    private final Path lockFile;
+
+    private final Map<Integer, Integer> offsets = new HashMap<>();
+
+    private MappedByteBuffer buffer;
+    private int records;
+    private long syncTime;
+    private boolean populated;
+
+    private boolean synced = false;
+    private boolean available = false;
+
+    IssueMirror(GHRepository repository) {
+        this.repository = requireNonNull(repository);
+        this.file = Paths.get(System.getProperty(MIRROR_DIRECTORY_PROPERTY, DEFAULT_MIRROR_DIRECTORY))
+            .resolve(repository.getFullName().replace('/', File.separatorChar) + ".issues");
+        this.lockFile = file.resolveSibling(file.getFileName() + ".lock");
+    }
+
+    /**
+     * Returns the mirrored issues and pull requests with the provided
+     * {@code numbers}, or an empty optional if the mirror is not available.
+     * Numbers which are not part of the mirror are left out of the result.
+     *
+     * @param numbers of the issues
+     * @param closedOnly whether only closed issues should be returned
+     * @return the mirrored issues, keyed by number
+     */
+    synchronized Optional<Map<Integer, IssueOrPullRequest>> getIssues(Collection<Integer> numbers, boolean closedOnly) {
+        requireNonNull(numbers);
+
+        return read(() -> {
+            final Map<Integer, IssueOrPullRequest> issues = new LinkedHashMap<>();
+
+            for (Integer number : numbers) {
+                final Integer offset = offsets.get(number);
+
+                if (offset != null && (!closedOnly || isClosed(offset))) {
+                    issues.put(number, readIssue(offset));
+                }
+            }
+
+            return issues;
+        });
+    }
+
+    /**
+     * Returns whether the issue or pull request with the provided
+     * {@code number} is part of the mirror, regardless of its state.
+     */
+    synchronized boolean contains(int number) {
+        return sync() && offsets.containsKey(number);
+    }
+
+    /**
+     * Returns the mirrored issues and pull requests of a milestone, or an
+     * empty optional if the mirror is not available.
+     *
+     * @param milestone number of the milestone
+     * @param closedOnly whether only closed issues should be returned
+     * @return the mirrored issues of the milestone, most recent first
+     */
+    synchronized Optional<List<IssueOrPullRequest>> getMilestoneIssues(int milestone, boolean closedOnly) {
+        return read(() -> {
+            final List<IssueOrPullRequest> issues = new ArrayList<>();
+
+            for (int offset : offsets.values()) {
+                if (buffer.getInt(offset + 8) == milestone && (!closedOnly || isClosed(offset))) {
+                    issues.add(readIssue(offset));
+                }
+            }
+
+            issues.sort(Comparator.comparingInt(IssueOrPullRequest::getNumber).reversed());
+
+            return issues;
+        });
+    }
+
+    private <T> Optional<T> read(Supplier<T> reader) {
+        if (!sync()) {
+            return Optional.empty();
+        }
+
+        try (final FileChannel lockChannel = openLockChannel()) {
+            return tryLock(lockChannel, true) ? Optional.of(reader.get()) : Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to lock issue mirror of repository '{}', fetching issues from GitHub", repository.getFullName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean sync() {
+        if (synced) {
+            return available;
+        }
+
+        synced = true;
+
+        if (!Boolean.parseBoolean(System.getProperty(MIRROR_ENABLED_PROPERTY, "true"))) {
+            return false;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to create issue mirror directory '{}', fetching issues from GitHub", file.getParent(), e);
+            return false;
+        }
+
+        try (final FileChannel lockChannel = openLockChannel()) {
+            if (!tryLock(lockChannel, false)) {
+                return false;
+            }
+
+            open();
+
+            if (!populated && !Boolean.parseBoolean(System.getProperty(MIRROR_BACKFILL_PROPERTY, "false"))) {
+                LOGGER.debug("Issue mirror of repository '{}' has not been backfilled, fetching issues from GitHub", repository.getFullName());
+                return false;
+            }
+
+            LOGGER.debug("Syncing issues of repository '{}' updated since {}", repository.getFullName(), syncTime == 0 ? "ever" : new Date(syncTime));
+
+            final GHIssueQueryBuilder query = repository.queryIssues()
+                .state(GHIssueState.ALL)
+                .sort(GHIssueQueryBuilder.Sort.UPDATED)
+                .direction(GHDirection.ASC)
+                .pageSize(REQUEST_PAGE_SIZE);
+
+            if (syncTime > 0) {
+                query.since(new Date(syncTime));
+            }
+
+            final List<GHIssue> pending = new ArrayList<>();
+            int updated = 0;
+
+            for (GHIssue issue : query.list()) {
+                pending.add(issue);
+
+                if (pending.size() == WRITE_BATCH_SIZE) {
+                    updated += write(pending);
+                    pending.clear();
+                }
+            }
+
+            updated += write(pending);
+
+            if (!populated) {
+                populated = true;
+                writeHeader();
+            }
+
+            compactIfNeeded();
+
+            LOGGER.debug("Synced {} issues, {} issues mirrored for repository '{}'", updated, offsets.size(), repository.getFullName());
+
+            available = true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to sync issue mirror of repository '{}', fetching issues from GitHub", repository.getFullName(), e);
+        }
+
+        return available;
+    }
+
+    private FileChannel openLockChannel() throws IOException {
+        return FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Locks the mirror against other processes, the lock is released when
+     * the provided {@code channel} is closed.
+     *
+     * @return whether the lock was acquired
+     */
+    private boolean tryLock(FileChannel channel, boolean shared) throws IOException {
+        try {
+            if (channel.tryLock(0, Long.MAX_VALUE, shared) != null) {
+                return true;
+            }
+        } catch (OverlappingFileLockException e) {
+            // held by another mirror of the same repository in this JVM
+        }
+
+        LOGGER.debug("Issue mirror of repository '{}' is in use by another process, fetching issues from GitHub", repository.getFullName());
+
+        return false;
+    }
+
+    private void open() throws IOException {
+        if (!hasCurrentFormat()) {
+            replace(Collections.emptyMap(), 0, false);
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            map(channel);
+
+            syncTime = buffer.getLong(SYNC_TIME_OFFSET);
+            populated = buffer.getInt(POPULATED_OFFSET) != 0;
+
+            int position = HEADER_SIZE;
+
+            try {
+                while (position < buffer.limit()) {
+                    final int length = buffer.getInt(position);
+
+                    if (length <= 0 || position + 4 + length > buffer.limit()) {
+                        throw new BufferUnderflowException();
+                    }
+
+                    offsets.put(buffer.getInt(position + 4), position);
+                    records++;
+                    position += 4 + length;
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                channel.truncate(position);
+                map(channel);
+            }
+        }
+    }
+
+    private boolean hasCurrentFormat() throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return false;
+            }
+
+            final ByteBuffer header = ByteBuffer.allocate(8);
+
+            channel.read(header, 0);
+            header.flip();
+
+            return header.getInt() == MAGIC && header.getInt() == VERSION;
+        }
+    }
+
+    private void map(FileChannel channel) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    /**
+     * Appends the provided issues and advances the sync time to the most
+     * recent update among them.
+     */
+    private int write(List<GHIssue> issues) throws IOException {
+        if (issues.isEmpty()) {
+            return 0;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        final List<int[]> written = new ArrayList<>();
+
+        long lastUpdate = syncTime;
+
+        for (GHIssue issue : issues) {
+            final byte[] record = encode(issue);
+
+            written.add(new int[]{issue.getNumber(), bytes.size()});
+
+            output.writeInt(record.length);
+            output.write(record);
+
+            final Date updatedAt = issue.getUpdatedAt();
+
+            if (updatedAt != null) {
+                lastUpdate = Math.max(lastUpdate, updatedAt.getTime());
+            }
+        }
+
+        output.flush();
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final int start = (int) channel.size();
+
+            channel.write(ByteBuffer.wrap(bytes.toByteArray()), start);
+            channel.force(false);
+
+            // the sync time is only advanced once the records are persisted
+            channel.write(header(lastUpdate, populated), 0);
+            channel.force(false);
+
+            map(channel);
+
+            for (int[] entry : written) {
+                offsets.put(entry[0], start + entry[1]);
+            }
+        }
+
+        records += issues.size();
+        syncTime = lastUpdate;
+
+        return issues.size();
+    }
+
+    private void writeHeader() throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(header(syncTime, populated), 0);
+            channel.force(false);
+
+            map(channel);
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (records < COMPACTION_THRESHOLD || records < offsets.size() * 2) {
+            return;
+        }
+
+        LOGGER.debug("Compacting issue mirror '{}' ({} of {} records are current)", file, offsets.size(), records);
+
+        final Map<Integer, Integer> compactedOffsets = replace(offsets, syncTime, populated);
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            map(channel);
+        }
+
+        offsets.clear();
+        offsets.putAll(compactedOffsets);
+        records = offsets.size();
+    }
+
+    /**
+     * Atomically replaces the file with one containing only the records
+     * at the provided {@code offsets} of the current mapping.
+     *
+     * @return the offsets of the records in the new file
+     */
+    private Map<Integer, Integer> replace(Map<Integer, Integer> offsets, long syncTime, boolean populated) throws IOException {
+        final Path replacement = file.resolveSibling(file.getFileName() + ".tmp");
+        final Map<Integer, Integer> replacementOffsets = new HashMap<>();
+
+        try (final FileChannel channel = FileChannel.open(replacement, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.write(header(syncTime, populated));
+
+            for (Map.Entry<Integer, Integer> entry : offsets.entrySet()) {
+                final int offset = entry.getValue();
+                final ByteBuffer record = buffer.duplicate();
+
+                record.position(offset).limit(offset + 4 + buffer.getInt(offset));
+
+                replacementOffsets.put(entry.getKey(), (int) channel.position());
+                channel.write(record);
+            }
+
+            channel.force(true);
+        }
+
+        Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return replacementOffsets;
+    }
+
+    private static ByteBuffer header(long syncTime, boolean populated) {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        header.putInt(MAGIC).putInt(VERSION).putLong(syncTime).putInt(populated ? 1 : 0);
+        header.flip();
+
+        return header;
+    }
+
+    /*
+     * Record layout, preceded by its length:
+     * number, milestone number (0 if none), flags, node id, title, url, label count, labels
+     */
+    private static byte[] encode(GHIssue issue) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+
+        output.writeInt(issue.getNumber());
+        output.writeInt(issue.getMilestone() != null ? issue.getMilestone().getNumber() : 0);
+        output.writeByte((issue.getState() == GHIssueState.CLOSED ? CLOSED : 0) | (issue.isPullRequest() ? PULL_REQUEST : 0));
+        writeString(output, issue.getNodeId());
+        writeString(output, issue.getTitle());
+        writeString(output, issue.getHtmlUrl() != null ? issue.getHtmlUrl().toString() : null);
+
+        final Collection<GHLabel> labels = issue.getLabels();
+
+        output.writeInt(labels.size());
+
+        for (GHLabel label : labels) {
+            writeString(output, label.getName());
+        }
+
+        output.flush();
+
+        return bytes.toByteArray();
+    }
+
+    private boolean isClosed(int offset) {
+        return (buffer.get(offset + 12) & CLOSED) != 0;
+    }
+
+    private IssueOrPullRequest readIssue(int offset) {
+        final ByteBuffer record = buffer.duplicate();
+        record.position(offset + 4);
+
+        final int number = record.getInt();
+        record.getInt();
+        final byte flags = record.get();
+        final String nodeId = readString(record);
+        final String title = readString(record);
+        final String url = readString(record);
+
+        final int labelCount = record.getInt();
+        final List<String> labels = new ArrayList<>(labelCount);
+
+        for (int i = 0; i < labelCount; i++) {
+            labels.add(readString(record));
+        }
+
+        return new IssueOrPullRequest(nodeId, number, title, labels, toUrl(url), (flags & PULL_REQUEST) != 0);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return url != null ? new URL(url) : null;
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid url '" + url + "' in issue mirror");
+        }
+    }
+}
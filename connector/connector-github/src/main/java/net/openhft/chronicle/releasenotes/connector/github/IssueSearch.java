@@ -0,0 +1,85 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import org.kohsuke.github.GHIssue;
+import org.kohsuke.github.GHIssueSearchBuilder;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds issues through the search API, which is the only issue endpoint
+ * able to exclude labels on the server.
+ */
+final class IssueSearch {
+
+    /**
+     * The search API returns at most this many results for a query.
+     */
+    private static final int RESULT_LIMIT = 1000;
+    private static final int REQUEST_PAGE_SIZE = 100;
+
+    private IssueSearch() {
+    }
+
+    /**
+     * Searches for the issues of a milestone which carry none of the
+     * labels ignored by {@code labelFilter}.
+     *
+     * @param github client used for the search
+     * @param repository containing the milestone
+     * @param milestone of the issues
+     * @param state of the issues, {@link GHIssueState#ALL} for both open and closed issues
+     * @param labelFilter providing the excluded labels
+     * @return the matching issues, or an empty optional if the milestone
+     *         title can't be searched for or the search matched more
+     *         issues than it is able to return
+     */
+    static Optional<List<GHIssue>> findMilestoneIssues(GitHub github, GHRepository repository, GHMilestone milestone, GHIssueState state, LabelFilter labelFilter) {
+        requireNonNull(github);
+        requireNonNull(repository);
+        requireNonNull(milestone);
+        requireNonNull(state);
+        requireNonNull(labelFilter);
+
+        // quotes can't be escaped within a search qualifier
+        if (milestone.getTitle().contains("\"")) {
+            return Optional.empty();
+        }
+
+        final GHIssueSearchBuilder searchBuilder = github.searchIssues()
+            .q("repo:" + repository.getFullName()
+                + " milestone:\"" + milestone.getTitle() + "\""
+                + labelFilter.toSearchQualifiers());
+
+        if (state == GHIssueState.CLOSED) {
+            searchBuilder.isClosed();
+        } else if (state == GHIssueState.OPEN) {
+            searchBuilder.isOpen();
+        }
+
+        final PagedSearchIterable<GHIssue> result = searchBuilder.list().withPageSize(REQUEST_PAGE_SIZE);
+
+        if (result.getTotalCount() > RESULT_LIMIT || result.isIncomplete()) {
+            return Optional.empty();
+        }
+
+        final List<GHIssue> issues = new ArrayList<>(result.getTotalCount());
+
+        for (final GHIssue issue : result) {
+            // the milestone qualifier matches titles loosely, so verify the exact milestone
+            if (issue.getMilestone() != null && issue.getMilestone().getNumber() == milestone.getNumber()) {
+                issues.add(issue);
+            }
+        }
+
+        return Optional.of(issues);
+    }
+}
@@ -0,0 +1,68 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Rejects issues carrying any of a set of ignored labels.
+ * <p>
+ * Where the issues are found through the search API, the ignored labels
+ * are pushed into the query as {@code -label:} qualifiers, so ignored
+ * issues are never transferred. Issues fetched any other way are checked
+ * against a precomputed hash set of the ignored label names.
+ */
+final class LabelFilter {
+
+    private static final LabelFilter NONE = new LabelFilter(Collections.emptySet());
+
+    private final Set<String> ignoredLabels;
+
+    private LabelFilter(Set<String> ignoredLabels) {
+        this.ignoredLabels = ignoredLabels;
+    }
+
+    static LabelFilter ignoring(Collection<String> ignoredLabels) {
+        if (ignoredLabels == null || ignoredLabels.isEmpty()) {
+            return NONE;
+        }
+
+        return new LabelFilter(new HashSet<>(ignoredLabels));
+    }
+
+    boolean isEmpty() {
+        return ignoredLabels.isEmpty();
+    }
+
+    /**
+     * Returns true if none of the provided label names is ignored.
+     */
+    boolean accepts(Collection<String> labels) {
+        if (ignoredLabels.isEmpty()) {
+            return true;
+        }
+
+        for (final String label : labels) {
+            if (ignoredLabels.contains(label)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the search qualifiers excluding all ignored labels, each
+     * preceded by a space.
+     */
+    String toSearchQualifiers() {
+        final StringBuilder qualifiers = new StringBuilder();
+
+        for (final String label : ignoredLabels) {
+            qualifiers.append(" -label:\"").append(label.replace("\"", "")).append('"');
+        }
+
+        return qualifiers.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Milestones of a single repository, indexed by title.
+ * <p>
+ * All milestones are fetched on first use. A title which is not part of
+ * the index triggers a single refresh, so milestones created after the
+ * index was loaded are still found.
+ */
+final class MilestoneIndex {
+
+    private static final int REQUEST_PAGE_SIZE = 100;
+
+    private final GHRepository repository;
+
+    private final Map<String, GHMilestone> milestonesByTitle = new HashMap<>();
+
+    private boolean loaded = false;
+
+    MilestoneIndex(GHRepository repository) {
+        this.repository = requireNonNull(repository);
+    }
+
+    /**
+     * Returns the milestone with the provided {@code title}, if it exists.
+     */
+    synchronized Optional<GHMilestone> getMilestone(String title) {
+        requireNonNull(title);
+
+        if (!loaded || !milestonesByTitle.containsKey(title)) {
+            load();
+        }
+
+        return Optional.ofNullable(milestonesByTitle.get(title));
+    }
+
+    private void load() {
+        milestonesByTitle.clear();
+
+        for (final GHMilestone milestone : repository.listMilestones(GHIssueState.ALL).withPageSize(REQUEST_PAGE_SIZE)) {
+            milestonesByTitle.putIfAbsent(milestone.getTitle(), milestone);
+        }
+
+        loaded = true;
+    }
+}
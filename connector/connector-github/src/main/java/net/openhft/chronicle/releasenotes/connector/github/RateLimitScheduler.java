@@ -0,0 +1,256 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.GitHubGraphQLClient;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Paces requests sent to GitHub according to the rate limit reported by
+ * the {@code X-RateLimit-*} response headers.
+ *
+ * Every rate limit resource ({@code core}, {@code graphql}, {@code search})
+ * is tracked as a token bucket holding the remaining requests until the
+ * reported reset time. Requests are sent freely while plenty of the budget
+ * is left. Once the budget runs low, reads are spread evenly over the time
+ * left until the reset. The last {@value #WRITE_RESERVE} requests of every
+ * window are reserved for writes (release creation and updates, comments),
+ * so a long running read job can't starve them.
+ *
+ * Responses rejected because of a primary or secondary rate limit are
+ * retried once the limit resets instead of failing the request. Reads
+ * answered with a {@code 502}, {@code 503} or {@code 504} are retried
+ * after a short, growing delay, writes are never repeated.
+ */
+final class RateLimitScheduler implements Interceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitScheduler.class);
+
+    private static final int WRITE_RESERVE = 50;
+    private static final int MAX_RETRIES = 3;
+    private static final long RETRY_MARGIN_MILLIS = 1000L;
+    private static final long DEFAULT_RETRY_MILLIS = 60_000L;
+    private static final long SERVER_ERROR_RETRY_MILLIS = 1000L;
+
+    private static final String CORE_RESOURCE = "core";
+    private static final String GRAPHQL_RESOURCE = "graphql";
+    private static final String SEARCH_RESOURCE = "search";
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Bucket bucket = buckets.computeIfAbsent(getResource(request), resource -> new Bucket());
+        final boolean write = isWrite(request);
+
+        for (int attempt = 0; ; attempt++) {
+            final long wait = bucket.reserve(write, System.currentTimeMillis());
+            final Response response;
+
+            try {
+                sleep(wait);
+                response = chain.proceed(request);
+            } catch (IOException | RuntimeException e) {
+                bucket.complete(null);
+                throw e;
+            }
+
+            bucket.complete(response.networkResponse());
+
+            if (attempt >= MAX_RETRIES) {
+                return response;
+            }
+
+            if (isRateLimited(response)) {
+                final long delay = getRetryDelay(response);
+
+                response.close();
+
+                LOGGER.warn("Rate limit exceeded for '{}', retrying in {}s", request.url().encodedPath(), delay / 1000);
+
+                sleep(delay);
+            } else if (!write && isServerError(response)) {
+                final long delay = SERVER_ERROR_RETRY_MILLIS << attempt;
+
+                response.close();
+
+                LOGGER.warn("Server error {} for '{}', retrying in {}s", response.code(), request.url().encodedPath(), delay / 1000);
+
+                sleep(delay);
+            } else {
+                return response;
+            }
+        }
+    }
+
+    private static String getResource(Request request) {
+        final String path = request.url().encodedPath();
+
+        if (isGraphQL(request)) {
+            return GRAPHQL_RESOURCE;
+        }
+
+        // the API may be served below a path prefix, e.g. /api/v3 on GitHub Enterprise Server
+        if (path.startsWith("/search/") || path.contains("/v3/search/")) {
+            return SEARCH_RESOURCE;
+        }
+
+        return CORE_RESOURCE;
+    }
+
+    private static boolean isWrite(Request request) {
+        // GraphQL requests are always POSTs, only the ones tagged as mutations are writes
+        if (isGraphQL(request)) {
+            return GitHubGraphQLClient.MUTATION_TAG.equals(request.tag(String.class));
+        }
+
+        return !request.method().equals("GET") && !request.method().equals("HEAD");
+    }
+
+    private static boolean isGraphQL(Request request) {
+        return request.url().encodedPath().endsWith("/graphql");
+    }
+
+    private static boolean isRateLimited(Response response) {
+        if (response.code() != 403 && response.code() != 429) {
+            return false;
+        }
+
+        return response.header("Retry-After") != null || "0".equals(response.header("X-RateLimit-Remaining"));
+    }
+
+    private static boolean isServerError(Response response) {
+        return response.code() == 502 || response.code() == 503 || response.code() == 504;
+    }
+
+    private static long getRetryDelay(Response response) {
+        final String retryAfter = response.header("Retry-After");
+
+        if (retryAfter != null) {
+            final long seconds = parseLong(retryAfter, -1);
+
+            if (seconds >= 0) {
+                return seconds * 1000L + RETRY_MARGIN_MILLIS;
+            }
+        }
+
+        final long reset = parseLong(response.header("X-RateLimit-Reset"), -1);
+
+        if (reset >= 0) {
+            return Math.max(0, reset * 1000L - System.currentTimeMillis()) + RETRY_MARGIN_MILLIS;
+        }
+
+        return DEFAULT_RETRY_MILLIS;
+    }
+
+    private static void sleep(long millis) throws IOException {
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static final class Bucket {
+
+        private int limit = -1;
+        private int remaining = -1;
+        private long resetMillis;
+        private long nextReadMillis;
+        private int inFlight;
+
+        /**
+         * Takes a token from the bucket, the request counts as in flight
+         * until it is {@link #complete(Response) completed}.
+         *
+         * @param write whether the request is a write
+         * @param now current time in milliseconds
+         * @return milliseconds the caller has to wait before sending the request
+         */
+        synchronized long reserve(boolean write, long now) {
+            inFlight++;
+
+            if (remaining < 0 || now >= resetMillis) {
+                return 0;
+            }
+
+            final int available = write ? remaining : remaining - WRITE_RESERVE;
+
+            if (available <= 0) {
+                return resetMillis - now;
+            }
+
+            remaining--;
+
+            if (write || available > limit / 5) {
+                return 0;
+            }
+
+            final long interval = (resetMillis - now) / available;
+            final long start = Math.max(now, nextReadMillis);
+
+            nextReadMillis = start + interval;
+
+            return start - now;
+        }
+
+        /**
+         * Completes a request, updating the bucket with the rate limit
+         * reported by its network response.
+         *
+         * @param networkResponse of the request, {@code null} if it didn't reach the network
+         */
+        synchronized void complete(Response networkResponse) {
+            if (networkResponse != null) {
+                update(networkResponse);
+            }
+
+            inFlight--;
+        }
+
+        private void update(Response response) {
+            final long remainingHeader = parseLong(response.header("X-RateLimit-Remaining"), -1);
+            final long resetHeader = parseLong(response.header("X-RateLimit-Reset"), -1);
+
+            if (remainingHeader < 0 || resetHeader < 0) {
+                return;
+            }
+
+            final long resetHeaderMillis = resetHeader * 1000L;
+
+            // a budget above the local one plus the requests in flight belongs to a response overtaken by later ones,
+            // otherwise the header is trusted, which gives back the tokens of free requests such as a 304
+            if (resetHeaderMillis != resetMillis || remainingHeader <= remaining + inFlight) {
+                remaining = (int) Math.max(0, remainingHeader - (inFlight - 1));
+            }
+
+            limit = (int) parseLong(response.header("X-RateLimit-Limit"), limit);
+            resetMillis = resetHeaderMillis;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import org.kohsuke.github.GHException;
+import org.kohsuke.github.GHRelease;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Releases of a single repository, indexed by tag name.
+ * <p>
+ * Looking up several tags at once pages through the published releases of
+ * the repository, newest first, until all of the tags were found. This
+ * takes one request per 100 releases instead of one request per tag.
+ * A single tag is resolved with a direct lookup.
+ * A tag missing from the loaded releases is checked with a direct lookup
+ * before it is reported as having no release, so releases created after
+ * the index was loaded are still found. The result of that lookup is
+ * remembered as well.
+ */
+final class ReleaseIndex {
+
+    private static final int REQUEST_PAGE_SIZE = 100;
+
+    private final GHRepository repository;
+
+    private final Map<String, GHRelease> releasesByTag = new HashMap<>();
+
+    private Iterator<GHRelease> unlistedReleases;
+    private boolean loaded = false;
+
+    ReleaseIndex(GHRepository repository) {
+        this.repository = requireNonNull(repository);
+    }
+
+    /**
+     * Returns the releases of the provided {@code tags}, in the order of the
+     * tags. Tags without a release are mapped to {@code null}.
+     */
+    synchronized Map<String, GHRelease> getReleases(Collection<String> tags) {
+        requireNonNull(tags);
+
+        if (!loaded && tags.size() > 1) {
+            load(tags);
+        }
+
+        final Map<String, GHRelease> releases = new LinkedHashMap<>();
+
+        for (final String tag : tags) {
+            releases.put(tag, getRelease(tag));
+        }
+
+        return releases;
+    }
+
+    /**
+     * Adds or replaces a release, e.g. after it was created or updated.
+     */
+    synchronized void put(GHRelease release) {
+        releasesByTag.put(release.getTagName(), release);
+    }
+
+    private GHRelease getRelease(String tag) {
+        if (releasesByTag.containsKey(tag)) {
+            return releasesByTag.get(tag);
+        }
+
+        try {
+            final GHRelease release = repository.getReleaseByTagName(tag);
+            releasesByTag.put(tag, release);
+            return release;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to find release for tag '" + tag + "' in repository '" + repository.getName() + "'");
+        }
+    }
+
+    private void load(Collection<String> tags) {
+        try {
+            if (unlistedReleases == null) {
+                unlistedReleases = repository.listReleases().withPageSize(REQUEST_PAGE_SIZE).iterator();
+            }
+
+            while (!releasesByTag.keySet().containsAll(tags) && unlistedReleases.hasNext()) {
+                final GHRelease release = unlistedReleases.next();
+
+                // drafts aren't returned by a lookup by tag either, and must not hide a published release
+                if (!release.isDraft()) {
+                    releasesByTag.putIfAbsent(release.getTagName(), release);
+                }
+            }
+
+            loaded = !unlistedReleases.hasNext();
+        } catch (IOException | GHException e) {
+            throw new RuntimeException("Failed to fetch releases of repository '" + repository.getFullName() + "'");
+        }
+    }
+}
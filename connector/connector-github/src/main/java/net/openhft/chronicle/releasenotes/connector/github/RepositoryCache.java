@@ -0,0 +1,102 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A least recently used cache of repository handles.
+ * <p>
+ * Entries expire after {@value #TTL_MINUTES} minutes. Repositories which
+ * don't exist are cached as well (for a shorter time), so repeated
+ * lookups of a missing repository don't reach GitHub. Lookups are
+ * performed outside of the cache lock, so concurrent lookups of different
+ * repositories don't block each other.
+ */
+final class RepositoryCache {
+
+    private static final int MAX_ENTRIES = 64;
+    private static final long TTL_MINUTES = 10;
+    private static final long MISSING_TTL_MINUTES = 1;
+
+    private final GitHub github;
+
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    RepositoryCache(GitHub github) {
+        this.github = requireNonNull(github);
+    }
+
+    /**
+     * Returns the repository with the provided full {@code name}, or an
+     * empty optional if it doesn't exist.
+     *
+     * @throws IOException if the repository couldn't be fetched
+     */
+    Optional<GHRepository> getRepository(String name) throws IOException {
+        requireNonNull(name);
+
+        final CacheEntry cachedEntry = getEntry(name);
+
+        if (cachedEntry != null) {
+            return Optional.ofNullable(cachedEntry.repository);
+        }
+
+        GHRepository repository;
+
+        try {
+            repository = github.getRepository(name);
+            // comparisons page through all of their commits instead of returning the first 250
+            repository.setCompareUsePaginatedCommits(true);
+        } catch (FileNotFoundException e) {
+            repository = null;
+        }
+
+        putEntry(name, new CacheEntry(repository));
+
+        return Optional.ofNullable(repository);
+    }
+
+    private synchronized CacheEntry getEntry(String name) {
+        final CacheEntry entry = entries.get(name);
+
+        if (entry != null && entry.isExpired()) {
+            entries.remove(name);
+            return null;
+        }
+
+        return entry;
+    }
+
+    private synchronized void putEntry(String name, CacheEntry entry) {
+        entries.put(name, entry);
+    }
+
+    private static final class CacheEntry {
+
+        private final GHRepository repository;
+        private final long expiresAt;
+
+        private CacheEntry(GHRepository repository) {
+            this.repository = repository;
+            this.expiresAt = System.nanoTime() + TimeUnit.MINUTES.toNanos(repository != null ? TTL_MINUTES : MISSING_TTL_MINUTES);
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.Objects.requireNonNull;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.GitHubGraphQLClient;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tags of a single repository, indexed by name and by the commit they
+ * point to.
+ * <p>
+ * The full tag list is only fetched once it is needed, for example to
+ * find the tag preceding a release. Until then, single tags are resolved
+ * with a direct ref lookup and kept in the index, so checking that a tag
+ * exists never requires paging through all tags of the repository.
+ */
+final class TagIndex {
+
+    private final GitHubGraphQLClient graphQLClient;
+    private final String owner;
+    private final String repository;
+
+    private final Map<String, Tag> tagsByName = new LinkedHashMap<>();
+    private final Map<String, List<String>> tagNamesByCommit = new HashMap<>();
+
+    private boolean loaded = false;
+
+    TagIndex(GitHubGraphQLClient graphQLClient, String owner, String repository) {
+        this.graphQLClient = requireNonNull(graphQLClient);
+        this.owner = requireNonNull(owner);
+        this.repository = requireNonNull(repository);
+    }
+
+    /**
+     * Returns the tag with the provided {@code name}, if it exists.
+     */
+    synchronized Optional<Tag> getTag(String name) {
+        requireNonNull(name);
+
+        final Tag tag = tagsByName.get(name);
+
+        if (tag != null || loaded) {
+            return Optional.ofNullable(tag);
+        }
+
+        final Optional<Tag> resolvedTag = graphQLClient.getTag(owner, repository, name);
+
+        resolvedTag.ifPresent(this::add);
+
+        return resolvedTag;
+    }
+
+    /**
+     * Returns all tags of the repository, newest tagged commit first.
+     */
+    synchronized List<Tag> getTags() {
+        load();
+
+        return new ArrayList<>(tagsByName.values());
+    }
+
+    /**
+     * Returns the names of all tags pointing to the commit identified
+     * by {@code commitSHA1}.
+     */
+    synchronized List<String> getTagNames(String commitSHA1) {
+        requireNonNull(commitSHA1);
+
+        load();
+
+        return tagNamesByCommit.getOrDefault(commitSHA1, Collections.emptyList());
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+
+        tagsByName.clear();
+        tagNamesByCommit.clear();
+
+        graphQLClient.getTags(owner, repository).forEach(this::add);
+
+        loaded = true;
+    }
+
+    private void add(Tag tag) {
+        if (tagsByName.putIfAbsent(tag.getName(), tag) == null) {
+            tagNamesByCommit.computeIfAbsent(tag.getCommitSHA1(), sha1 -> new ArrayList<>()).add(tag.getName());
+        }
+    }
+}
@@ -8,7 +8,14 @@ import com.apollographql.apollo.ApolloClient;
 import com.apollographql.apollo.api.Input;
 import com.apollographql.apollo.api.Response;
 import com.apollographql.apollo.exception.ApolloException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.Comment;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.PullRequest;
 import net.openhft.chronicle.releasenotes.connector.github.graphql.model.Tag;
+import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagQuery;
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery;
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery.AsCommit;
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery.AsCommit1;
@@ -18,11 +25,22 @@ import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetT
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery.Refs;
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery.Repository;
 import net.openhft.chronicle.releasenotes.connector.github.internal.graphql.GetTagsQuery.Target;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -30,115 +48,567 @@ import java.util.stream.Collectors;
 public class GitHubGraphQLClient implements AutoCloseable {
 
     private static final String GITHUB_GRAPHQL_URL = "https://api.github.com/graphql";
-
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
+    /**
+     * Number of aliased lookups sent in a single request. Each alias may
+     * pull up to 100 label nodes, so 50 aliases stay well below the node
+     * limit GitHub enforces per query.
+     */
+    private static final int BATCH_SIZE = 50;
+    private static final int TAG_PAGE_SIZE = 100;
+    private static final int COMMENT_COUNT = 100;
+
+    /**
+     * Number of comments added by a single mutation request. Creating
+     * content is subject to GitHub's secondary rate limits, so mutations
+     * are sent in smaller batches than queries.
+     */
+    private static final int MUTATION_BATCH_SIZE = 25;
+
+    /**
+     * Tag attached to mutation requests, which marks them as writes for
+     * request scheduling.
+     */
+    public static final String MUTATION_TAG = "mutation";
+
+    /**
+     * Maximum number of pull requests fetched per commit, a commit with
+     * this many associated pull requests may have more.
+     */
+    public static final int ASSOCIATED_PULL_REQUEST_COUNT = 25;
+
+    private static final String ISSUE_OR_PULL_REQUEST_FIELDS = "__typename "
+        + "... on Issue { id number title url state labels(first: 100, orderBy: {field: NAME, direction: ASC}) { nodes { name } } } "
+        + "... on PullRequest { id number title url state labels(first: 100, orderBy: {field: NAME, direction: ASC}) { nodes { name } } }";
+
+    private static final String COMMENT_FIELDS = "comments(last: " + COMMENT_COUNT + ") { nodes { body createdAt } }";
+
+    private final String serverUrl;
     private final OkHttpClient okHttpClient;
+    private final boolean ownsOkHttpClient;
     private final ApolloClient apolloClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private boolean closed = false;
 
     public GitHubGraphQLClient(String token) {
+        this(token, new OkHttpClient(), GITHUB_GRAPHQL_URL, true);
+    }
+
+    /**
+     * Creates a client which sends its requests through the given
+     * {@link OkHttpClient}. The returned client shares the connection
+     * pool and cache of the given one, which are left open when the
+     * client is closed.
+     *
+     * @param token used to authorize requests
+     * @param okHttpClient used to send requests
+     */
+    public GitHubGraphQLClient(String token, OkHttpClient okHttpClient) {
+        this(token, okHttpClient, GITHUB_GRAPHQL_URL);
+    }
+
+    /**
+     * Creates a client which sends its requests to the GraphQL API at
+     * {@code serverUrl} through the given {@link OkHttpClient}, e.g. the
+     * API of a GitHub Enterprise Server.
+     *
+     * @param token used to authorize requests
+     * @param okHttpClient used to send requests
+     * @param serverUrl of the GraphQL API
+     */
+    public GitHubGraphQLClient(String token, OkHttpClient okHttpClient, String serverUrl) {
+        this(token, okHttpClient, serverUrl, false);
+    }
+
+    private GitHubGraphQLClient(String token, OkHttpClient okHttpClient, String serverUrl, boolean ownsOkHttpClient) {
         requireNonNull(token);
+        requireNonNull(okHttpClient);
+        requireNonNull(serverUrl);
 
-        this.okHttpClient = new OkHttpClient.Builder()
+        this.serverUrl = serverUrl;
+        this.ownsOkHttpClient = ownsOkHttpClient;
+
+        this.okHttpClient = okHttpClient.newBuilder()
             .addInterceptor(chain -> chain.proceed(
                 chain.request().newBuilder().addHeader("Authorization", "Bearer " + token).build()
             ))
             .build();
 
         this.apolloClient = ApolloClient.builder()
-            .serverUrl(GITHUB_GRAPHQL_URL)
-            .okHttpClient(okHttpClient)
+            .serverUrl(serverUrl)
+            .okHttpClient(this.okHttpClient)
             .build();
     }
 
+    /**
+     * Fetches all tags of a repository, ordered by the date of the tagged
+     * commit (newest first). The tag refs are paged through with a cursor,
+     * {@value #TAG_PAGE_SIZE} per request, until all of them were read.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @return all tags of the repository
+     */
     public List<Tag> getTags(String owner, String repository) {
         if (closed) {
             throw new RuntimeException("Cannot execute request from closed client");
         }
 
-        final Optional<Data> optionalData =  callSync(apolloClient.query(new GetTagsQuery(owner, repository, Input.absent()))).getData();
+        final List<Tag> tags = new ArrayList<>();
+
+        String cursor = null;
+        boolean hasNextPage;
+
+        do {
+            final Optional<Data> optionalData = callSync(apolloClient.query(
+                new GetTagsQuery(owner, repository, Input.fromNullable(TAG_PAGE_SIZE), Input.fromNullable(cursor))
+            )).getData();
+
+            if (!optionalData.isPresent()) {
+                throw new RuntimeException("Failed to fetch tag data for repository '" + owner + "/" + repository + "'");
+            }
+
+            final Data data = optionalData.get();
+
+            if (!data.getRepository().isPresent()) {
+                throw new RuntimeException("Failed to find repository '" + owner + "/" + repository + "'");
+            }
+
+            final Repository repo = data.getRepository().get();
+
+            if (!repo.getRefs().isPresent()) {
+                throw new RuntimeException("Failed to find tag refs for repository '" + owner + "/" + repository + "'");
+            }
+
+            final Refs refs = repo.getRefs().get();
+
+            if (!refs.getEdges().isPresent()) {
+                throw new RuntimeException("Failed to find tag ref edges for repository '" + owner  + "/" + repository + "'");
+            }
+
+            final List<Node> nodes = refs.getEdges().get().stream()
+                .filter(edge -> edge.getNode().isPresent())
+                .map(edge -> edge.getNode().get())
+                .collect(Collectors.toList());
+
+            for (final Node node : nodes) {
+                if (!node.getTarget().isPresent()) {
+                    continue;
+                }
+
+                final Target nodeTarget = node.getTarget().get();
+
+                Object commitSHA1 = null;
+
+                if (nodeTarget instanceof AsCommit) {
+                    commitSHA1 = ((AsCommit) nodeTarget).getOid();
+                }
+
+                if (nodeTarget instanceof AsTag && ((AsTag) nodeTarget).getTarget() instanceof AsCommit1) {
+                    commitSHA1 = ((AsCommit1) ((AsTag) nodeTarget).getTarget()).getOid();
+                }
+
+                if (!(commitSHA1 instanceof String)) {
+                    continue;
+                }
+
+                tags.add(new Tag(node.getName(), (String) commitSHA1));
+            }
+
+            hasNextPage = refs.getPageInfo().isHasNextPage();
+            cursor = refs.getPageInfo().getEndCursor().orElse(null);
+        } while (hasNextPage && cursor != null);
+
+        return tags;
+    }
+
+    /**
+     * Looks up a single tag by its {@code name} and resolves the commit
+     * it points to. Annotated tags are peeled to their target commit.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @param name of the tag
+     * @return the tag, or {@link Optional#empty()} if the tag doesn't exist
+     */
+    public Optional<Tag> getTag(String owner, String repository, String name) {
+        requireNonNull(owner);
+        requireNonNull(repository);
+        requireNonNull(name);
+
+        if (closed) {
+            throw new RuntimeException("Cannot execute request from closed client");
+        }
+
+        final Optional<GetTagQuery.Data> optionalData = callSync(apolloClient.query(new GetTagQuery(owner, repository, "refs/tags/" + name))).getData();
 
         if (!optionalData.isPresent()) {
             throw new RuntimeException("Failed to fetch tag data for repository '" + owner + "/" + repository + "'");
         }
 
-        final Data data = optionalData.get();
+        final GetTagQuery.Data data = optionalData.get();
 
         if (!data.getRepository().isPresent()) {
             throw new RuntimeException("Failed to find repository '" + owner + "/" + repository + "'");
         }
 
-        final Repository repo = data.getRepository().get();
+        final Optional<GetTagQuery.Ref> ref = data.getRepository().get().getRef();
 
-        if (!repo.getRefs().isPresent()) {
-            throw new RuntimeException("Failed to find tag refs for repository '" + owner + "/" + repository + "'");
+        if (!ref.isPresent() || !ref.get().getTarget().isPresent()) {
+            return Optional.empty();
         }
 
-        final Refs refs = repo.getRefs().get();
+        final GetTagQuery.Target target = ref.get().getTarget().get();
 
-        if (!refs.getEdges().isPresent()) {
-            throw new RuntimeException("Failed to find tag ref edges for repository '" + owner  + "/" + repository + "'");
+        Object commitSHA1 = null;
+
+        if (target instanceof GetTagQuery.AsCommit) {
+            commitSHA1 = ((GetTagQuery.AsCommit) target).getOid();
         }
 
-        final List<Node> nodes = refs.getEdges().get().stream()
-            .filter(edge -> edge.getNode().isPresent())
-            .map(edge -> edge.getNode().get())
-            .collect(Collectors.toList());
+        if (target instanceof GetTagQuery.AsTag && ((GetTagQuery.AsTag) target).getTarget() instanceof GetTagQuery.AsCommit1) {
+            commitSHA1 = ((GetTagQuery.AsCommit1) ((GetTagQuery.AsTag) target).getTarget()).getOid();
+        }
 
-        final List<Tag> tags = new ArrayList<>();
+        if (!(commitSHA1 instanceof String)) {
+            return Optional.empty();
+        }
 
-        for (final Node node : nodes) {
-            if (!node.getTarget().isPresent()) {
-                continue;
+        return Optional.of(new Tag(ref.get().getName(), (String) commitSHA1));
+    }
+
+    /**
+     * Fetches the closed issues and pull requests identified by {@code numbers}.
+     * The numbers are looked up directly through aliased {@code issueOrPullRequest}
+     * fields, {@value #BATCH_SIZE} per request, so the cost of this call depends
+     * only on the amount of requested numbers. Numbers which don't exist or
+     * reference an open issue are skipped.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @param numbers of the issues and pull requests to fetch
+     * @return closed issues and pull requests
+     */
+    public List<IssueOrPullRequest> getClosedIssues(String owner, String repository, Collection<Integer> numbers) {
+        return getIssues(owner, repository, numbers, true);
+    }
+
+    /**
+     * Fetches the issues and pull requests identified by {@code numbers},
+     * regardless of their state. Numbers which don't exist are skipped.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @param numbers of the issues and pull requests to fetch
+     * @return issues and pull requests
+     * @see #getClosedIssues(String, String, Collection)
+     */
+    public List<IssueOrPullRequest> getIssues(String owner, String repository, Collection<Integer> numbers) {
+        return getIssues(owner, repository, numbers, false);
+    }
+
+    private List<IssueOrPullRequest> getIssues(String owner, String repository, Collection<Integer> numbers, boolean closedOnly) {
+        requireNonNull(owner);
+        requireNonNull(repository);
+        requireNonNull(numbers);
+
+        final List<Integer> pending = new ArrayList<>(numbers);
+        final List<IssueOrPullRequest> issues = new ArrayList<>(pending.size());
+
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            final List<Integer> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+
+            final StringBuilder document = new StringBuilder("query($owner: String!, $repository: String!) { repository(owner: $owner, name: $repository) {");
+
+            for (final int number : batch) {
+                document.append(" i").append(number).append(": issueOrPullRequest(number: ").append(number).append(") { ")
+                    .append(ISSUE_OR_PULL_REQUEST_FIELDS)
+                    .append(" }");
             }
 
-            final Target nodeTarget = node.getTarget().get();
+            document.append(" } }");
 
-            if (!(nodeTarget instanceof AsCommit) && !(nodeTarget instanceof AsTag)) {
-                continue;
+            final ObjectNode variables = objectMapper.createObjectNode()
+                .put("owner", owner)
+                .put("repository", repository);
+
+            final JsonNode repo = query(document.toString(), variables).path("repository");
+
+            if (repo.isMissingNode() || repo.isNull()) {
+                throw new RuntimeException("Failed to find repository '" + owner + "/" + repository + "'");
             }
 
-            String tagName = null;
-            String commitSHA1 = null;
+            for (final int number : batch) {
+                final JsonNode node = repo.path("i" + number);
 
-            if (nodeTarget instanceof AsCommit) {
-                final AsCommit commitTarget = (AsCommit) nodeTarget;
+                if (node.isMissingNode() || node.isNull() || !node.has("number")) {
+                    continue;
+                }
 
-                if (!(commitTarget.getOid() instanceof String)) {
+                if (closedOnly && "OPEN".equals(node.path("state").asText())) {
                     continue;
                 }
 
-                tagName = node.getName();
-                commitSHA1 = (String) commitTarget.getOid();
+                issues.add(mapIssueOrPullRequest(node));
             }
+        }
 
-            if (nodeTarget instanceof AsTag) {
-                final AsTag tagTarget = (AsTag) nodeTarget;
+        return issues;
+    }
 
-                if (!(tagTarget.getTarget() instanceof AsCommit1)) {
-                    continue;
+    /**
+     * Fetches the pull requests associated with each of the provided commit
+     * {@code oids}. The commits are looked up through aliased {@code object}
+     * fields, {@value #BATCH_SIZE} per request, instead of issuing a separate
+     * request per commit.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @param oids of the commits
+     * @return associated pull requests keyed by commit oid
+     */
+    public Map<String, List<PullRequest>> getAssociatedPullRequests(String owner, String repository, Collection<String> oids) {
+        requireNonNull(owner);
+        requireNonNull(repository);
+        requireNonNull(oids);
+
+        final List<String> pending = new ArrayList<>(oids);
+        final Map<String, List<PullRequest>> pullRequests = new HashMap<>();
+
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            final List<String> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+
+            final StringBuilder document = new StringBuilder("query($owner: String!, $repository: String!) { repository(owner: $owner, name: $repository) {");
+
+            for (final String oid : batch) {
+                document.append(" c").append(oid).append(": object(oid: \"").append(oid).append("\") { ")
+                    .append("... on Commit { associatedPullRequests(first: ").append(ASSOCIATED_PULL_REQUEST_COUNT).append(") { nodes { number headRefName } } }")
+                    .append(" }");
+            }
+
+            document.append(" } }");
+
+            final ObjectNode variables = objectMapper.createObjectNode()
+                .put("owner", owner)
+                .put("repository", repository);
+
+            final JsonNode repo = query(document.toString(), variables).path("repository");
+
+            if (repo.isMissingNode() || repo.isNull()) {
+                throw new RuntimeException("Failed to find repository '" + owner + "/" + repository + "'");
+            }
+
+            for (final String oid : batch) {
+                final List<PullRequest> associated = new ArrayList<>();
+
+                for (final JsonNode node : repo.path("c" + oid).path("associatedPullRequests").path("nodes")) {
+                    associated.add(new PullRequest(node.path("number").asInt(), node.path("headRefName").asText()));
                 }
 
-                final AsCommit1 commitTarget = (AsCommit1) tagTarget.getTarget();
+                pullRequests.put(oid, associated);
+            }
+        }
 
-                if (!(commitTarget.getOid() instanceof String)) {
-                    continue;
+        return pullRequests;
+    }
+
+    /**
+     * Fetches the latest {@value #COMMENT_COUNT} comments of each of the
+     * provided issue or pull request {@code numbers}, {@value #BATCH_SIZE}
+     * issues per request. Only the body and creation date of a comment are
+     * transferred.
+     *
+     * @param owner of the repository
+     * @param repository name
+     * @param numbers of the issues or pull requests
+     * @return comments keyed by issue number, oldest first
+     */
+    public Map<Integer, List<Comment>> getComments(String owner, String repository, Collection<Integer> numbers) {
+        requireNonNull(owner);
+        requireNonNull(repository);
+        requireNonNull(numbers);
+
+        final List<Integer> pending = new ArrayList<>(numbers);
+        final Map<Integer, List<Comment>> comments = new HashMap<>();
+
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            final List<Integer> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+
+            final StringBuilder document = new StringBuilder("query($owner: String!, $repository: String!) { repository(owner: $owner, name: $repository) {");
+
+            for (final int number : batch) {
+                document.append(" i").append(number).append(": issueOrPullRequest(number: ").append(number).append(") { ")
+                    .append("... on Issue { ").append(COMMENT_FIELDS).append(" } ")
+                    .append("... on PullRequest { ").append(COMMENT_FIELDS).append(" }")
+                    .append(" }");
+            }
+
+            document.append(" } }");
+
+            final ObjectNode variables = objectMapper.createObjectNode()
+                .put("owner", owner)
+                .put("repository", repository);
+
+            final JsonNode repo = query(document.toString(), variables).path("repository");
+
+            if (repo.isMissingNode() || repo.isNull()) {
+                throw new RuntimeException("Failed to find repository '" + owner + "/" + repository + "'");
+            }
+
+            for (final int number : batch) {
+                final List<Comment> issueComments = new ArrayList<>();
+
+                for (final JsonNode node : repo.path("i" + number).path("comments").path("nodes")) {
+                    issueComments.add(new Comment(node.path("body").asText(), Date.from(Instant.parse(node.path("createdAt").asText()))));
                 }
 
-                tagName = node.getName();
-                commitSHA1 = (String) commitTarget.getOid();
+                comments.put(number, issueComments);
+            }
+        }
 
-                final Tag tag = new Tag(tagName, commitSHA1);
+        return comments;
+    }
 
-                tags.add(tag);
+    /**
+     * Adds a comment with the same {@code body} to every issue or pull
+     * request identified by {@code subjectIds}. The comments are created
+     * through aliased {@code addComment} mutations, {@value #MUTATION_BATCH_SIZE}
+     * per request. A failing mutation doesn't affect the others.
+     *
+     * @param subjectIds node ids of the issues or pull requests
+     * @param body of the comment
+     * @return error messages keyed by the subject id of each comment which
+     *         couldn't be created, empty if all comments were created
+     */
+    public Map<String, String> addComments(Collection<String> subjectIds, String body) {
+        requireNonNull(subjectIds);
+        requireNonNull(body);
+
+        final List<String> pending = new ArrayList<>(subjectIds);
+        final Map<String, String> errors = new HashMap<>();
+
+        for (int from = 0; from < pending.size(); from += MUTATION_BATCH_SIZE) {
+            final List<String> batch = pending.subList(from, Math.min(from + MUTATION_BATCH_SIZE, pending.size()));
+
+            final StringBuilder document = new StringBuilder("mutation($body: String!");
+
+            for (int i = 0; i < batch.size(); i++) {
+                document.append(", $s").append(i).append(": ID!");
             }
 
-            final Tag tag = new Tag(tagName, commitSHA1);
+            document.append(") {");
+
+            final ObjectNode variables = objectMapper.createObjectNode().put("body", body);
+
+            for (int i = 0; i < batch.size(); i++) {
+                document.append(" c").append(i).append(": addComment(input: {subjectId: $s").append(i).append(", body: $body}) { clientMutationId }");
+                variables.put("s" + i, batch.get(i));
+            }
+
+            document.append(" }");
+
+            final JsonNode response;
+
+            try {
+                response = execute(document.toString(), variables, MUTATION_TAG);
+            } catch (RuntimeException e) {
+                batch.forEach(subjectId -> errors.put(subjectId, e.getMessage()));
+                continue;
+            }
 
-            tags.add(tag);
+            final Map<String, String> batchErrors = new HashMap<>();
+
+            for (final JsonNode error : response.path("errors")) {
+                batchErrors.putIfAbsent(error.path("path").path(0).asText(), error.path("message").asText());
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                final JsonNode result = response.path("data").path("c" + i);
+
+                if (result.isMissingNode() || result.isNull()) {
+                    errors.put(batch.get(i), batchErrors.getOrDefault("c" + i, "Failed to add comment"));
+                }
+            }
         }
 
-        return tags;
+        return errors;
+    }
+
+    private IssueOrPullRequest mapIssueOrPullRequest(JsonNode node) {
+        final List<String> labels = new ArrayList<>();
+
+        for (final JsonNode label : node.path("labels").path("nodes")) {
+            labels.add(label.path("name").asText());
+        }
+
+        return new IssueOrPullRequest(
+            node.path("id").asText(),
+            node.path("number").asInt(),
+            node.path("title").asText(),
+            labels,
+            toUrl(node.path("url").asText()),
+            "PullRequest".equals(node.path("__typename").asText())
+        );
+    }
+
+    /**
+     * Executes a GraphQL {@code document} which can't be expressed as one of
+     * the generated operations (e.g. documents containing a variable number
+     * of aliased fields) and returns its {@code data} node. Partial errors,
+     * like a lookup for a number which doesn't exist, are tolerated as long
+     * as GitHub still returns data.
+     */
+    private JsonNode query(String document, ObjectNode variables) {
+        final JsonNode body = execute(document, variables, null);
+        final JsonNode data = body.path("data");
+
+        if (data.isMissingNode() || data.isNull()) {
+            throw new RuntimeException("GraphQL request failed: " + body.path("errors"));
+        }
+
+        return data;
+    }
+
+    /**
+     * Executes a GraphQL {@code document} and returns the whole response
+     * body, including any errors.
+     */
+    private JsonNode execute(String document, ObjectNode variables, String tag) {
+        if (closed) {
+            throw new RuntimeException("Cannot execute request from closed client");
+        }
+
+        final ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("query", document);
+        payload.set("variables", variables);
+
+        try {
+            final Request request = new Request.Builder()
+                .url(serverUrl)
+                .post(RequestBody.create(objectMapper.writeValueAsBytes(payload), JSON_MEDIA_TYPE))
+                .tag(String.class, tag)
+                .build();
+
+            try (okhttp3.Response response = okHttpClient.newCall(request).execute()) {
+                if (!response.isSuccessful() || response.body() == null) {
+                    throw new RuntimeException("GraphQL request failed with status " + response.code());
+                }
+
+                return objectMapper.readTree(response.body().byteStream());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to execute GraphQL request", e);
+        }
+    }
+
+    private URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid url '" + url + "'");
+        }
     }
 
     private <T> Response<T> callSync(final ApolloCall<T> call) {
@@ -171,8 +641,12 @@ public class GitHubGraphQLClient implements AutoCloseable {
             return;
         }
 
-        okHttpClient.dispatcher().executorService().shutdown();
-        okHttpClient.connectionPool().evictAll();
+        // the dispatcher and connection pool of a client passed in by the caller are shared with other clients
+        if (ownsOkHttpClient) {
+            okHttpClient.dispatcher().executorService().shutdown();
+            okHttpClient.connectionPool().evictAll();
+        }
+
         closed = true;
     }
 }
@@ -0,0 +1,24 @@
+package net.openhft.chronicle.releasenotes.connector.github.graphql.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Date;
+
+public final class Comment {
+
+    private final String body;
+    private final Date createdAt;
+
+    public Comment(String body, Date createdAt) {
+        this.body = requireNonNull(body);
+        this.createdAt = requireNonNull(createdAt);
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package net.openhft.chronicle.releasenotes.connector.github.graphql.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+
+public final class IssueOrPullRequest {
+
+    private final String id;
+    private final int number;
+    private final String title;
+    private final List<String> labels;
+    private final URL url;
+    private final boolean pullRequest;
+
+    public IssueOrPullRequest(String id, int number, String title, List<String> labels, URL url, boolean pullRequest) {
+        this.id = requireNonNull(id);
+        this.number = number;
+        this.title = requireNonNull(title);
+        this.labels = Collections.unmodifiableList(requireNonNull(labels));
+        this.url = requireNonNull(url);
+        this.pullRequest = pullRequest;
+    }
+
+    /**
+     * Returns the global node id, used to reference the issue or pull
+     * request in mutations.
+     */
+    public String getId() {
+        return id;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    public boolean isPullRequest() {
+        return pullRequest;
+    }
+}
@@ -0,0 +1,22 @@
+package net.openhft.chronicle.releasenotes.connector.github.graphql.model;
+
+import static java.util.Objects.requireNonNull;
+
+public final class PullRequest {
+
+    private final int number;
+    private final String headRefName;
+
+    public PullRequest(int number, String headRefName) {
+        this.number = number;
+        this.headRefName = requireNonNull(headRefName);
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public String getHeadRefName() {
+        return headRefName;
+    }
+}
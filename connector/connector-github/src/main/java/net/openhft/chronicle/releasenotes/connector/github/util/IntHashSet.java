@@ -0,0 +1,138 @@
+package net.openhft.chronicle.releasenotes.connector.github.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An open-addressing hash set of positive {@code int} values which
+ * avoids boxing its elements.
+ */
+public final class IntHashSet {
+
+    private static final int EMPTY = 0;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    public IntHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntHashSet(int expectedSize) {
+        this.values = new int[tableSize(expectedSize)];
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value to add, must be positive
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (value <= EMPTY) {
+            throw new IllegalArgumentException("Only positive values are supported (value = " + value + ")");
+        }
+
+        final int mask = values.length - 1;
+
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            if (values[i] == value) {
+                return false;
+            }
+
+            if (values[i] == EMPTY) {
+                values[i] = value;
+
+                if (++size * 2 > values.length) {
+                    rehash(values.length * 2);
+                }
+
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value <= EMPTY) {
+            return false;
+        }
+
+        final int mask = values.length - 1;
+
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            if (values[i] == value) {
+                return true;
+            }
+
+            if (values[i] == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (final int value : values) {
+            if (value != EMPTY) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the set in no particular order.
+     */
+    public int[] toArray() {
+        final int[] array = new int[size];
+        int index = 0;
+
+        for (final int value : values) {
+            if (value != EMPTY) {
+                array[index++] = value;
+            }
+        }
+
+        return array;
+    }
+
+    public void clear() {
+        Arrays.fill(values, EMPTY);
+        size = 0;
+    }
+
+    private void rehash(int newLength) {
+        final int[] oldValues = values;
+
+        values = new int[newLength];
+        size = 0;
+
+        for (final int value : oldValues) {
+            if (value != EMPTY) {
+                add(value);
+            }
+        }
+    }
+
+    private static int hash(int value) {
+        final int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int expectedSize) {
+        int length = DEFAULT_CAPACITY;
+
+        while (length < expectedSize * 2) {
+            length <<= 1;
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,211 @@
+package net.openhft.chronicle.releasenotes.connector.github.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Extracts issue references from commit messages in a single pass.
+ *
+ * A commit message is split into whitespace separated tokens (spaces and
+ * line breaks; carriage returns and commas are ignored). A token is an
+ * issue reference if it is either a local reference ({@code #123}) or a
+ * link to an issue of the scanned repository
+ * ({@code https://github.com/owner/repository/issues/123}). Unless told
+ * otherwise, a reference is only picked up if the token preceding it is
+ * one of the closing keywords (case insensitive).
+ *
+ * All token checks run as state machines over the characters of the
+ * message. The closing keywords are compiled into a trie, so no strings
+ * are created while scanning and found ids are written directly into an
+ * {@link IntHashSet}. Instances are immutable and may be shared between
+ * threads.
+ */
+public final class IssueReferenceScanner {
+
+    private static final int DEAD = -1;
+    private static final int ALPHABET_SIZE = 26;
+
+    private static final int REF_START = 0;
+    private static final int REF_URL_PREFIX = 1;
+    private static final int REF_DIGITS = 2;
+
+    private final int[][] keywordTransitions;
+    private final boolean[] keywordAccepting;
+    private final char[] issueUrlPrefix;
+
+    /**
+     * @param closingKeywords words that close the issue following them,
+     *                        consisting of the letters {@code a-z} only
+     * @param repositoryUrl html url of the scanned repository
+     */
+    public IssueReferenceScanner(Collection<String> closingKeywords, String repositoryUrl) {
+        requireNonNull(closingKeywords);
+        requireNonNull(repositoryUrl);
+
+        final List<int[]> transitions = new ArrayList<>();
+        final List<Boolean> accepting = new ArrayList<>();
+
+        transitions.add(newState());
+        accepting.add(false);
+
+        for (final String keyword : closingKeywords) {
+            int state = 0;
+
+            for (int i = 0; i < keyword.length(); i++) {
+                final int letter = toLetter(keyword.charAt(i));
+
+                if (letter == DEAD) {
+                    throw new IllegalArgumentException("Closing keyword '" + keyword + "' may only contain letters a-z");
+                }
+
+                if (transitions.get(state)[letter] == DEAD) {
+                    transitions.get(state)[letter] = transitions.size();
+                    transitions.add(newState());
+                    accepting.add(false);
+                }
+
+                state = transitions.get(state)[letter];
+            }
+
+            accepting.set(state, true);
+        }
+
+        this.keywordTransitions = transitions.toArray(new int[0][]);
+        this.keywordAccepting = new boolean[accepting.size()];
+
+        for (int i = 0; i < keywordAccepting.length; i++) {
+            keywordAccepting[i] = accepting.get(i);
+        }
+
+        this.issueUrlPrefix = (repositoryUrl + "/issues/").toCharArray();
+    }
+
+    /**
+     * Adds the ids of all issues referenced by a commit message to the given set.
+     *
+     * @param message to scan
+     * @param includeIssuesWithoutClosingKeyword if false, only references
+     *                                           preceded by a closing keyword are added
+     * @param ids to add the found issue ids to
+     */
+    public void scan(CharSequence message, boolean includeIssuesWithoutClosingKeyword, IntHashSet ids) {
+        requireNonNull(message);
+        requireNonNull(ids);
+
+        boolean afterKeyword = false;
+
+        boolean inToken = false;
+        int keywordState = 0;
+        int refState = REF_START;
+        int urlPosition = 0;
+        long refValue = 0;
+        int refDigits = 0;
+
+        final int length = message.length();
+
+        for (int i = 0; i <= length; i++) {
+            final char c = i < length ? message.charAt(i) : ' ';
+
+            if (c == ' ' || c == '\n') {
+                if (!inToken) {
+                    continue;
+                }
+
+                final int id = refState == REF_DIGITS && refDigits > 0 ? (int) refValue : DEAD;
+
+                if (includeIssuesWithoutClosingKeyword || afterKeyword) {
+                    if (id != DEAD) {
+                        ids.add(id);
+                    }
+                }
+
+                afterKeyword = id == DEAD && keywordState != DEAD && keywordAccepting[keywordState];
+
+                inToken = false;
+                keywordState = 0;
+                refState = REF_START;
+                urlPosition = 0;
+                refValue = 0;
+                refDigits = 0;
+                continue;
+            }
+
+            if (c == '\r') {
+                continue;
+            }
+
+            inToken = true;
+
+            if (c == ',') {
+                continue;
+            }
+
+            if (keywordState != DEAD) {
+                final int letter = toLetter(c);
+                keywordState = letter == DEAD ? DEAD : keywordTransitions[keywordState][letter];
+            }
+
+            switch (refState) {
+                case REF_START:
+                    if (c == '#') {
+                        refState = REF_DIGITS;
+                    } else if (c == issueUrlPrefix[0]) {
+                        refState = issueUrlPrefix.length == 1 ? REF_DIGITS : REF_URL_PREFIX;
+                        urlPosition = 1;
+                    } else {
+                        refState = DEAD;
+                    }
+                    break;
+                case REF_URL_PREFIX:
+                    if (c == issueUrlPrefix[urlPosition]) {
+                        if (++urlPosition == issueUrlPrefix.length) {
+                            refState = REF_DIGITS;
+                        }
+                    } else {
+                        refState = DEAD;
+                    }
+                    break;
+                case REF_DIGITS:
+                    if (c < '0' || c > '9' || (c == '0' && refDigits == 0)) {
+                        refState = DEAD;
+                        break;
+                    }
+
+                    refValue = refValue * 10 + (c - '0');
+                    refDigits++;
+
+                    if (refValue > Integer.MAX_VALUE) {
+                        refState = DEAD;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static int[] newState() {
+        final int[] state = new int[ALPHABET_SIZE];
+
+        for (int i = 0; i < ALPHABET_SIZE; i++) {
+            state[i] = DEAD;
+        }
+
+        return state;
+    }
+
+    private static int toLetter(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+
+        return DEAD;
+    }
+}
@@ -0,0 +1,129 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class CheckpointJournalTest {
+
+    private static final Set<Integer> IDS = new LinkedHashSet<>(Arrays.asList(3, 1, 2));
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(CheckpointJournal.CHECKPOINT_DIRECTORY_PROPERTY, directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CheckpointJournal.CHECKPOINT_DIRECTORY_PROPERTY);
+        System.clearProperty(CheckpointJournal.CHECKPOINT_ENABLED_PROPERTY);
+    }
+
+    @Test
+    void resumeCompletedPhases() throws IOException {
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run", 1)));
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run", 1)));
+        assertEquals(1, calls.get());
+
+        // other inputs belong to another run
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run", 2)));
+        assertEquals(2, calls.get());
+
+        // a completed run starts over
+        CheckpointJournal.open("run", 1).complete();
+
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run", 1)));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void dropPartiallyWrittenLine() throws IOException {
+        checkpoint(CheckpointJournal.open("run"));
+
+        final Path journal = journal();
+
+        Files.write(journal, "{\"phase\":\"other\",\"da".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        final CheckpointJournal resumedJournal = CheckpointJournal.open("run");
+
+        assertEquals(IDS, checkpoint(resumedJournal));
+        assertEquals(1, calls.get());
+
+        resumedJournal.checkpoint("other", CheckpointJournal.ISSUE_IDS, () -> IDS);
+
+        final List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("{\"phase\":\"other\",\"data\":"));
+    }
+
+    @Test
+    void discardOutdatedJournal() throws IOException {
+        checkpoint(CheckpointJournal.open("run"));
+
+        final long modified = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(CheckpointJournal.MAX_AGE_HOURS + 1);
+
+        Files.setLastModifiedTime(journal(), FileTime.fromMillis(modified));
+
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run")));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void skipDisabledJournal() throws IOException {
+        System.setProperty(CheckpointJournal.CHECKPOINT_ENABLED_PROPERTY, "false");
+
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run")));
+        assertEquals(IDS, checkpoint(CheckpointJournal.open("run")));
+        assertEquals(2, calls.get());
+
+        assertEquals(IDS, checkpoint(CheckpointJournal.disabled()));
+        assertEquals(3, calls.get());
+
+        try (final Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    private Set<Integer> checkpoint(CheckpointJournal journal) {
+        return journal.checkpoint("issueIds", CheckpointJournal.ISSUE_IDS, () -> {
+            calls.incrementAndGet();
+            return IDS;
+        });
+    }
+
+    private Path journal() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            final List<Path> journals = files.collect(Collectors.toList());
+
+            assertEquals(1, journals.size());
+
+            return journals.get(0);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.GitHubGraphQLClient;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.PullRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CommitIndexTest {
+
+    private static final String FIRST = "4a3f0c1e9d2b7a6f5e4d3c2b1a0f9e8d7c6b5a49";
+    private static final String SECOND = "0b1c2d3e4f5a6b7c8d9e0f1a2b3c4d5e6f7a8b9c";
+    private static final String THIRD = "9f8e7d6c5b4a3f2e1d0c9b8a7f6e5d4c3b2a1f0e";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(CommitIndex.INDEX_DIRECTORY_PROPERTY, directory.toString());
+
+        file = directory.resolve("acme").resolve("widgets.commits");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CommitIndex.INDEX_DIRECTORY_PROPERTY);
+    }
+
+    @Test
+    void readPersistedRecords() {
+        final CommitIndex index = new CommitIndex("acme/widgets");
+
+        index.putIssueReferences(Collections.singletonMap(FIRST, new CommitIndex.IssueReferences(new int[] {12}, new int[] {12, 34})));
+        index.putPullRequests(Collections.singletonMap(FIRST, Arrays.asList(new PullRequest(56, "feature/\u00fcn\u00efcode"), new PullRequest(78, "fix"))));
+
+        final CommitIndex loadedIndex = new CommitIndex("acme/widgets");
+        final CommitIndex.IssueReferences references = loadedIndex.getIssueReferences(FIRST);
+        final List<PullRequest> pullRequests = loadedIndex.getPullRequests(FIRST);
+
+        assertArrayEquals(new int[] {12}, references.getClosingIssueIds());
+        assertArrayEquals(new int[] {12, 34}, references.getReferencedIssueIds());
+        assertEquals(2, pullRequests.size());
+        assertEquals(56, pullRequests.get(0).getNumber());
+        assertEquals("feature/\u00fcn\u00efcode", pullRequests.get(0).getHeadRefName());
+        assertEquals(78, pullRequests.get(1).getNumber());
+        assertNull(loadedIndex.getIssueReferences(SECOND));
+    }
+
+    @Test
+    void keepIncompletePullRequestsInMemory() {
+        final List<PullRequest> capped = new ArrayList<>();
+
+        for (int i = 0; i < GitHubGraphQLClient.ASSOCIATED_PULL_REQUEST_COUNT; i++) {
+            capped.add(new PullRequest(i + 1, "branch-" + i));
+        }
+
+        final Map<String, List<PullRequest>> pullRequests = new HashMap<>();
+
+        pullRequests.put(FIRST, Collections.singletonList(new PullRequest(1, "fix")));
+        pullRequests.put(SECOND, Collections.emptyList());
+        pullRequests.put(THIRD, capped);
+
+        final CommitIndex index = new CommitIndex("acme/widgets");
+
+        index.putPullRequests(pullRequests);
+
+        assertNotNull(index.getPullRequests(SECOND));
+        assertNotNull(index.getPullRequests(THIRD));
+
+        final CommitIndex loadedIndex = new CommitIndex("acme/widgets");
+
+        assertNotNull(loadedIndex.getPullRequests(FIRST));
+        assertNull(loadedIndex.getPullRequests(SECOND));
+        assertNull(loadedIndex.getPullRequests(THIRD));
+    }
+
+    @Test
+    void discardOutdatedVersion() throws IOException {
+        new CommitIndex("acme/widgets").putIssueReferences(Collections.singletonMap(FIRST, new CommitIndex.IssueReferences(new int[0], new int[] {1})));
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write((ByteBuffer) ByteBuffer.allocate(4).putInt(1).flip(), 4);
+        }
+
+        assertNull(new CommitIndex("acme/widgets").getIssueReferences(FIRST));
+        assertEquals(0, Files.size(file));
+
+        // the next update starts a new file with the current version
+        new CommitIndex("acme/widgets").putIssueReferences(Collections.singletonMap(SECOND, new CommitIndex.IssueReferences(new int[0], new int[] {2})));
+
+        assertNotNull(new CommitIndex("acme/widgets").getIssueReferences(SECOND));
+    }
+
+    @Test
+    void truncatePartiallyWrittenRecord() throws IOException {
+        new CommitIndex("acme/widgets").putIssueReferences(Collections.singletonMap(FIRST, new CommitIndex.IssueReferences(new int[] {1}, new int[] {1})));
+
+        final long size = Files.size(file);
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            final ByteBuffer record = ByteBuffer.allocate(1 + 4 + 10);
+
+            record.put((byte) 1).putInt(40).put(new byte[10]).flip();
+            channel.write(record);
+        }
+
+        final CommitIndex index = new CommitIndex("acme/widgets");
+
+        assertNotNull(index.getIssueReferences(FIRST));
+        assertEquals(size, Files.size(file));
+
+        index.putIssueReferences(Collections.singletonMap(SECOND, new CommitIndex.IssueReferences(new int[0], new int[] {2})));
+
+        final CommitIndex loadedIndex = new CommitIndex("acme/widgets");
+
+        assertNotNull(loadedIndex.getIssueReferences(FIRST));
+        assertNotNull(loadedIndex.getIssueReferences(SECOND));
+    }
+}
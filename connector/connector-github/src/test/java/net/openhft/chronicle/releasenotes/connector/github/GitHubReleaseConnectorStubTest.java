@@ -0,0 +1,121 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.connector.ReleaseConnector.BranchReleaseOptions;
+import net.openhft.chronicle.releasenotes.connector.ReleaseConnector.ReleaseResult;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import net.openhft.chronicle.releasenotes.model.Issue;
+import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+final class GitHubReleaseConnectorStubTest {
+
+    private static final Pattern CLOSING_REFERENCE = Pattern.compile("(?i)\\b(?:fixes|fixed|closes|resolves) (?:#|https://github\\.com/acme/\\w+/issues/)(\\d+)");
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void configure() {
+        System.setProperty(GitHubHttpClient.CACHE_SIZE_PROPERTY, "0");
+        System.setProperty(CheckpointJournal.CHECKPOINT_ENABLED_PROPERTY, "false");
+    }
+
+    // every test gets its own local state, so no test reads what another one indexed or mirrored
+    @BeforeEach
+    void configureDirectories() {
+        System.setProperty(CommitIndex.INDEX_DIRECTORY_PROPERTY, directory.resolve("index").toString());
+        System.setProperty(IssueMirror.MIRROR_DIRECTORY_PROPERTY, directory.resolve("mirror").toString());
+    }
+
+    @AfterAll
+    static void reset() {
+        System.clearProperty(GitHubHttpClient.API_URL_PROPERTY);
+        System.clearProperty(GitHubHttpClient.CACHE_SIZE_PROPERTY);
+        System.clearProperty(CheckpointJournal.CHECKPOINT_ENABLED_PROPERTY);
+        System.clearProperty(CommitIndex.INDEX_DIRECTORY_PROPERTY);
+        System.clearProperty(IssueMirror.MIRROR_DIRECTORY_PROPERTY);
+    }
+
+    @Test
+    void createReleaseFromBranch() throws Exception {
+        final SyntheticRepository repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(5_000)
+            .tags(50)
+            .issues(1_000)
+            .build();
+
+        try (final GitHubStubServer server = new GitHubStubServer.Builder().repository(repository).token("token").maxPageSize(50).build().start()) {
+            assertRelease(server, repository, repository.getTags().get(2), repository.getTags().get(4));
+        }
+    }
+
+    @Test
+    void createReleaseFromBranchWhileRateLimited() throws Exception {
+        final SyntheticRepository repository = new SyntheticRepository.Builder("acme", "gadgets")
+            .commits(2_000)
+            .tags(20)
+            .issues(500)
+            .seed(2)
+            .build();
+
+        final GitHubStubServer.Builder builder = new GitHubStubServer.Builder()
+            .repository(repository)
+            .token("token")
+            .latency(5, 5)
+            .maxPageSize(20)
+            .serverErrorRate(0.01)
+            .secondaryRateLimitRate(0.01)
+            .rateLimit(100, 1_000);
+
+        try (final GitHubStubServer server = builder.build().start()) {
+            assertRelease(server, repository, repository.getTags().get(0), repository.getTags().get(3));
+
+            assertTrue(server.getInjectedFailureCount() > 0);
+        }
+    }
+
+    private static void assertRelease(GitHubStubServer server, SyntheticRepository repository, SyntheticRepository.Tag tag, SyntheticRepository.Tag endTag) throws Exception {
+        System.setProperty(GitHubHttpClient.API_URL_PROPERTY, server.getApiUrl());
+
+        final ReleaseResult<ReleaseNotes> result = new GitHubReleaseConnector("token")
+            .createReleaseFromBranch(repository.getFullName(), tag.getName(), endTag.getName(), repository.getDefaultBranch(), BranchReleaseOptions.DEFAULT);
+
+        result.throwIfFail();
+
+        final Set<Integer> issues = result.getReleaseNotes().getIssues().stream()
+            .map(Issue::getNumber)
+            .collect(Collectors.toCollection(TreeSet::new));
+
+        assertEquals(closedIssues(tag, endTag), issues);
+        assertTrue(repository.getRelease(tag.getName()).isPresent());
+    }
+
+    private static Set<Integer> closedIssues(SyntheticRepository.Tag tag, SyntheticRepository.Tag endTag) {
+        final Set<Integer> issues = new TreeSet<>();
+
+        for (SyntheticRepository.Commit commit = tag.getCommit(); commit != endTag.getCommit(); commit = commit.getParent().orElse(null)) {
+            final Matcher matcher = CLOSING_REFERENCE.matcher(commit.getMessage());
+
+            while (matcher.find()) {
+                issues.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+
+        return issues;
+    }
+}
@@ -0,0 +1,97 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+final class HttpRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(GitHubHttpClient.RECORD_FILE_PROPERTY);
+        System.clearProperty(GitHubHttpClient.REPLAY_FILE_PROPERTY);
+        System.clearProperty(GitHubHttpClient.REPLAY_TIMING_PROPERTY);
+        System.clearProperty(GitHubHttpClient.CACHE_SIZE_PROPERTY);
+    }
+
+    @Test
+    void replayRecordedTraffic() throws IOException {
+        final SyntheticRepository repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(300)
+            .build();
+
+        final GitHubStubServer.Builder builder = new GitHubStubServer.Builder()
+            .repository(repository)
+            .maxPageSize(30)
+            .serverErrorRate(0.1)
+            .seed(7);
+
+        final Path recording = directory.resolve("recording.jsonl");
+        final List<String> recordedCommits;
+        final String apiUrl;
+
+        System.setProperty(GitHubHttpClient.CACHE_SIZE_PROPERTY, "0");
+        System.setProperty(GitHubHttpClient.RECORD_FILE_PROPERTY, recording.toString());
+
+        try (final GitHubStubServer server = builder.build().start()) {
+            apiUrl = server.getApiUrl();
+            recordedCommits = listCommits(GitHubHttpClient.createClient(), apiUrl, repository);
+
+            assertTrue(server.getInjectedFailureCount() > 0);
+        }
+
+        final List<String> exchanges = Files.readAllLines(recording, StandardCharsets.UTF_8);
+
+        // the scheduler retries failed attempts, which are recorded as well
+        assertTrue(exchanges.stream().anyMatch(exchange -> exchange.contains("\"code\":502")));
+        assertTrue(exchanges.stream().noneMatch(exchange -> exchange.contains("token")));
+
+        System.clearProperty(GitHubHttpClient.RECORD_FILE_PROPERTY);
+        System.setProperty(GitHubHttpClient.REPLAY_FILE_PROPERTY, recording.toString());
+        System.setProperty(GitHubHttpClient.REPLAY_TIMING_PROPERTY, "collapse");
+
+        final OkHttpClient replayClient = GitHubHttpClient.createClient();
+
+        assertEquals(repository.getCommits().size(), recordedCommits.size());
+        assertEquals(recordedCommits, listCommits(replayClient, apiUrl, repository));
+        assertThrows(IOException.class, () -> new GitHubBuilder()
+            .withEndpoint(apiUrl)
+            .withOAuthToken("token")
+            .withConnector(new OkHttpGitHubConnector(replayClient))
+            .build()
+            .getRepository("acme/unknown"));
+    }
+
+    private static List<String> listCommits(OkHttpClient client, String apiUrl, SyntheticRepository repository) throws IOException {
+        final GitHub github = new GitHubBuilder()
+            .withEndpoint(apiUrl)
+            .withOAuthToken("token")
+            .withConnector(new OkHttpGitHubConnector(client))
+            .build();
+
+        return github.getRepository(repository.getFullName()).listCommits().withPageSize(30).toList().stream()
+            .map(GHCommit::getSHA1)
+            .collect(toList());
+    }
+}
@@ -0,0 +1,233 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHubBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+final class IssueMirrorTest {
+
+    @TempDir
+    Path directory;
+
+    private SyntheticRepository repository;
+    private GitHubStubServer server;
+    private GHRepository repositoryRef;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setProperty(IssueMirror.MIRROR_DIRECTORY_PROPERTY, directory.toString());
+        System.setProperty(IssueMirror.MIRROR_BACKFILL_PROPERTY, "true");
+
+        repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(1_000)
+            .issues(600)
+            .build();
+
+        server = new GitHubStubServer.Builder().repository(repository).build().start();
+
+        repositoryRef = new GitHubBuilder()
+            .withEndpoint(server.getApiUrl())
+            .withOAuthToken("token")
+            .build()
+            .getRepository(repository.getFullName());
+
+        file = directory.resolve("acme").resolve("widgets.issues");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+
+        System.clearProperty(IssueMirror.MIRROR_DIRECTORY_PROPERTY);
+        System.clearProperty(IssueMirror.MIRROR_BACKFILL_PROPERTY);
+    }
+
+    @Test
+    void skipMirrorWithoutBackfill() {
+        System.setProperty(IssueMirror.MIRROR_BACKFILL_PROPERTY, "false");
+
+        final long requests = server.getRequestCount();
+
+        assertFalse(new IssueMirror(repositoryRef).getIssues(numbers(), true).isPresent());
+        assertFalse(new IssueMirror(repositoryRef).getMilestoneIssues(1, true).isPresent());
+        assertEquals(requests, server.getRequestCount());
+    }
+
+    @Test
+    void skipMirrorWhileLocked() throws IOException {
+        assertTrue(new IssueMirror(repositoryRef).contains(1));
+
+        final long requests = server.getRequestCount();
+
+        try (final FileChannel channel = FileChannel.open(file.resolveSibling("widgets.issues.lock"), StandardOpenOption.WRITE)) {
+            channel.lock();
+
+            assertFalse(new IssueMirror(repositoryRef).getIssues(numbers(), true).isPresent());
+            assertFalse(new IssueMirror(repositoryRef).contains(1));
+        }
+
+        assertEquals(requests, server.getRequestCount());
+        assertClosedIssues(new IssueMirror(repositoryRef));
+    }
+
+    @Test
+    void readBackfilledIssues() {
+        assertClosedIssues(new IssueMirror(repositoryRef));
+
+        // once populated the mirror is used without the backfill option
+        System.setProperty(IssueMirror.MIRROR_BACKFILL_PROPERTY, "false");
+
+        assertClosedIssues(new IssueMirror(repositoryRef));
+    }
+
+    @Test
+    void syncUpdatedIssues() throws IOException {
+        assertTrue(new IssueMirror(repositoryRef).contains(1));
+
+        final GHMilestone milestoneRef = repositoryRef.listMilestones(GHIssueState.ALL).toList().get(0);
+        final int milestone = milestoneRef.getNumber();
+        final SyntheticRepository.Issue issue = closedIssueOutside(milestone);
+
+        repositoryRef.getIssue(issue.getNumber()).setMilestone(milestoneRef);
+
+        final List<Integer> milestoneIssues = new IssueMirror(repositoryRef).getMilestoneIssues(milestone, true).get().stream()
+            .map(IssueOrPullRequest::getNumber)
+            .collect(toList());
+
+        assertTrue(milestoneIssues.contains(issue.getNumber()));
+    }
+
+    @Test
+    void truncatePartiallyWrittenRecord() throws IOException {
+        assertTrue(new IssueMirror(repositoryRef).contains(1));
+
+        final long size = Files.size(file);
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            final ByteBuffer record = ByteBuffer.allocate(4 + 1000);
+
+            record.putInt(100_000).put(new byte[1000]).flip();
+            channel.write(record);
+        }
+
+        assertClosedIssues(new IssueMirror(repositoryRef));
+        assertTrue(Files.size(file) < size + 1000);
+    }
+
+    @Test
+    void advanceSyncTimeWithPersistedRecords() throws IOException {
+        assertTrue(new IssueMirror(repositoryRef).contains(1));
+
+        final long latestUpdate = repository.getIssues().stream()
+            .map(SyntheticRepository.Issue::getUpdatedAt)
+            .max(Comparator.naturalOrder())
+            .get()
+            .toEpochMilli();
+
+        assertEquals(latestUpdate, readSyncTime());
+
+        // records which were written without advancing the sync time are listed again
+        writeSyncTime(latestUpdate - 24L * 60L * 60L * 1000L);
+
+        assertClosedIssues(new IssueMirror(repositoryRef));
+        assertEquals(latestUpdate, readSyncTime());
+    }
+
+    @Test
+    void compactWhileMapped() throws IOException {
+        final IssueMirror mirror = new IssueMirror(repositoryRef);
+
+        assertClosedIssues(mirror);
+
+        final long size = Files.size(file);
+
+        // listing every issue again outdates all records, which triggers a compaction
+        writeSyncTime(0);
+
+        final IssueMirror compactedMirror = new IssueMirror(repositoryRef);
+
+        assertClosedIssues(compactedMirror);
+        assertEquals(size, Files.size(file));
+
+        // the mapping of the replaced file stays readable
+        assertClosedIssues(mirror);
+    }
+
+    private void assertClosedIssues(IssueMirror mirror) {
+        final Optional<Map<Integer, IssueOrPullRequest>> issues = mirror.getIssues(numbers(), true);
+
+        assertTrue(issues.isPresent());
+
+        final List<Integer> expected = repository.getIssues().stream()
+            .filter(SyntheticRepository.Issue::isClosed)
+            .map(SyntheticRepository.Issue::getNumber)
+            .sorted()
+            .collect(toList());
+
+        assertEquals(expected, issues.get().keySet().stream().sorted().collect(toList()));
+
+        for (IssueOrPullRequest issue : issues.get().values()) {
+            final SyntheticRepository.Issue expectedIssue = repository.getIssue(issue.getNumber()).get();
+
+            assertEquals(expectedIssue.getTitle(), issue.getTitle());
+            assertEquals(expectedIssue.getNodeId(), issue.getId());
+            assertEquals(expectedIssue.isPullRequest(), issue.isPullRequest());
+            assertEquals(expectedIssue.getLabels().stream().sorted().collect(toList()), issue.getLabels().stream().sorted().collect(toList()));
+        }
+    }
+
+    private SyntheticRepository.Issue closedIssueOutside(int milestone) {
+        return repository.getIssues().stream()
+            .filter(SyntheticRepository.Issue::isClosed)
+            .filter(issue -> !issue.isPullRequest())
+            .filter(issue -> issue.getMilestone().map(SyntheticRepository.Milestone::getNumber).orElse(0) != milestone)
+            .findFirst()
+            .get();
+    }
+
+    private List<Integer> numbers() {
+        return IntStream.rangeClosed(1, repository.getIssues().size()).boxed().collect(toList());
+    }
+
+    private long readSyncTime() throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer syncTime = ByteBuffer.allocate(8);
+
+            channel.read(syncTime, IssueMirror.SYNC_TIME_OFFSET);
+
+            return syncTime.getLong(0);
+        }
+    }
+
+    private void writeSyncTime(long syncTime) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write((ByteBuffer) ByteBuffer.allocate(8).putLong(syncTime).flip(), IssueMirror.SYNC_TIME_OFFSET);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.openhft.chronicle.releasenotes.connector.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
+
+import java.time.Duration;
+
+final class RateLimitSchedulerTest {
+
+    private static final OkHttpClient CLIENT = new OkHttpClient.Builder()
+        .addInterceptor(new RateLimitScheduler())
+        .build();
+
+    @Test
+    void retryPaginatedReadsAfterServerErrors() throws Exception {
+        final SyntheticRepository repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(500)
+            .build();
+
+        final GitHubStubServer.Builder builder = new GitHubStubServer.Builder()
+            .repository(repository)
+            .maxPageSize(50)
+            .serverErrorRate(0.2);
+
+        try (final GitHubStubServer server = builder.build().start()) {
+            final GitHub github = new GitHubBuilder()
+                .withEndpoint(server.getApiUrl())
+                .withOAuthToken("token")
+                .withConnector(new OkHttpGitHubConnector(CLIENT))
+                .build();
+
+            final int commits = github.getRepository(repository.getFullName()).listCommits().withPageSize(50).toList().size();
+
+            assertEquals(500, commits);
+            assertTrue(server.getInjectedFailureCount() > 0);
+        }
+    }
+
+    @Test
+    void doNotRetryWritesAfterServerErrors() throws Exception {
+        final SyntheticRepository repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(10)
+            .build();
+
+        try (final GitHubStubServer server = new GitHubStubServer.Builder().repository(repository).serverErrorRate(1).build().start()) {
+            final Request request = new Request.Builder()
+                .url(server.getApiUrl() + "/repos/acme/widgets/releases")
+                .header("Authorization", "token token")
+                .post(RequestBody.create("{\"tag_name\":\"1.0.0\"}", MediaType.get("application/json")))
+                .build();
+
+            try (final Response response = CLIENT.newCall(request).execute()) {
+                assertEquals(502, response.code());
+            }
+
+            assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    void keepBudgetOfNotModifiedResponses() {
+        final String reset = String.valueOf(System.currentTimeMillis() / 1000 + 3600);
+
+        // answers every request from the cache after a 304 which doesn't count against the rate limit
+        final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitScheduler())
+            .addInterceptor(chain -> {
+                final Response networkResponse = new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(304)
+                    .message("Not Modified")
+                    .header("X-RateLimit-Limit", "5000")
+                    .header("X-RateLimit-Remaining", "4000")
+                    .header("X-RateLimit-Reset", reset)
+                    .build();
+
+                return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create("{}", MediaType.get("application/json")))
+                    .networkResponse(networkResponse)
+                    .build();
+            })
+            .build();
+
+        final Request request = new Request.Builder()
+            .url("http://localhost/repos/acme/widgets")
+            .build();
+
+        // without the tokens given back, the reads would be paced after 3000 requests
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 3500; i++) {
+                try (final Response response = client.newCall(request).execute()) {
+                    assertEquals(200, response.code());
+                }
+            }
+        });
+    }
+}
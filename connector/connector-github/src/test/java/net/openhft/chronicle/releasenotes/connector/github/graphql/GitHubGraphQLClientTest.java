@@ -0,0 +1,84 @@
+package net.openhft.chronicle.releasenotes.connector.github.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.IssueOrPullRequest;
+import net.openhft.chronicle.releasenotes.connector.github.graphql.model.Tag;
+import net.openhft.chronicle.releasenotes.connector.github.stub.GitHubStubServer;
+import net.openhft.chronicle.releasenotes.connector.github.stub.SyntheticRepository;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+final class GitHubGraphQLClientTest {
+
+    private static final String TOKEN = "secret";
+
+    private static SyntheticRepository repository;
+    private static GitHubStubServer server;
+
+    @BeforeAll
+    static void start() {
+        repository = new SyntheticRepository.Builder("acme", "widgets")
+            .commits(200)
+            .tags(5)
+            .issues(20)
+            .build();
+
+        // the stub rejects every request which isn't authorized with the token
+        server = new GitHubStubServer.Builder()
+            .repository(repository)
+            .token(TOKEN)
+            .build()
+            .start();
+    }
+
+    @AfterAll
+    static void stop() {
+        server.close();
+    }
+
+    @Test
+    void authorizeQueries() throws Exception {
+        try (final GitHubGraphQLClient client = new GitHubGraphQLClient(TOKEN, new OkHttpClient(), server.getApiUrl() + "/graphql")) {
+            final List<Tag> tags = client.getTags("acme", "widgets");
+            final Optional<Tag> tag = client.getTag("acme", "widgets", repository.getTags().get(0).getName());
+
+            assertEquals(repository.getTags().size(), tags.size());
+            assertTrue(tag.isPresent());
+        }
+    }
+
+    @Test
+    void authorizeRequests() throws Exception {
+        try (final GitHubGraphQLClient client = new GitHubGraphQLClient(TOKEN, new OkHttpClient(), server.getApiUrl() + "/graphql")) {
+            final List<IssueOrPullRequest> issues = client.getIssues("acme", "widgets", Arrays.asList(1, 2, 3));
+
+            assertEquals(3, issues.size());
+        }
+
+        try (final GitHubGraphQLClient client = new GitHubGraphQLClient("wrong", new OkHttpClient(), server.getApiUrl() + "/graphql")) {
+            assertThrows(RuntimeException.class, () -> client.getIssues("acme", "widgets", Arrays.asList(1, 2, 3)));
+        }
+    }
+
+    @Test
+    void keepSharedClientOpen() throws Exception {
+        final OkHttpClient sharedClient = new OkHttpClient();
+
+        try (final GitHubGraphQLClient other = new GitHubGraphQLClient(TOKEN, sharedClient, server.getApiUrl() + "/graphql")) {
+            new GitHubGraphQLClient(TOKEN, sharedClient, server.getApiUrl() + "/graphql").close();
+
+            assertFalse(sharedClient.dispatcher().executorService().isShutdown());
+            assertEquals(1, other.getIssues("acme", "widgets", Arrays.asList(1)).size());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package net.openhft.chronicle.releasenotes.connector.github.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+final class IssueReferenceScannerTest {
+
+    private static final IssueReferenceScanner SCANNER = new IssueReferenceScanner(
+        Arrays.asList("close", "closes", "closed", "fix", "fixes", "fixed", "resolve", "resolves", "resolved"),
+        "https://github.com/owner/repository"
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Fixes #12",
+        "fixes #12",
+        "Commit message\n\nCloses #12",
+        "Commit message\r\n\r\nRESOLVED   #12",
+        "Fix https://github.com/owner/repository/issues/12",
+        "Fixed #12, #13",
+        "Closes #12 and closes #12",
+    })
+    void scanClosingReference(String message) {
+        assertEquals(ids(12), scan(message, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Refs #12",
+        "Fixes: #12",
+        "Fixes #012",
+        "Fixes #12.",
+        "Fixes , #12",
+        "Fixes https://github.com/owner/other/issues/12",
+        "Fixes https://github.com/owner/repository/pull/12",
+        "Fixes https://github.com/owner/repository-fork/issues/12",
+        "Fixes https://github.com/owner/repository/tree/issues/12",
+        "Fixes https://github.com/owner/repository/issues/12/",
+        "Fixes #99999999999",
+        "#12 fixes",
+    })
+    void scanIgnoresInvalidReference(String message) {
+        assertEquals(ids(), scan(message, false));
+    }
+
+    @Test
+    void scanWithoutClosingKeyword() {
+        assertEquals(ids(1, 2, 3), scan("Refs #1, see #2\nand https://github.com/owner/repository/issues/3 not #0", true));
+    }
+
+    @Test
+    void scanMultipleKeywords() {
+        assertEquals(ids(1, 2), scan("Fixes fixes #1\nresolves #2 #3", false));
+    }
+
+    private static Set<Integer> scan(String message, boolean includeIssuesWithoutClosingKeyword) {
+        final IntHashSet ids = new IntHashSet();
+        SCANNER.scan(message, includeIssuesWithoutClosingKeyword, ids);
+
+        final Set<Integer> result = new TreeSet<>();
+        ids.forEach(result::add);
+
+        return result;
+    }
+
+    private static Set<Integer> ids(Integer... ids) {
+        return new TreeSet<>(Arrays.asList(ids));
+    }
+}
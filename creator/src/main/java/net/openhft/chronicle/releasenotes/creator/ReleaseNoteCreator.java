@@ -4,12 +4,38 @@ import net.openhft.chronicle.releasenotes.creator.internal.MarkdownReleaseNoteCr
 import net.openhft.chronicle.releasenotes.model.AggregatedReleaseNotes;
 import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
 
+import java.io.IOException;
+
 public interface ReleaseNoteCreator {
 
     String formatReleaseNotes(ReleaseNotes releaseNotes);
 
     String formatAggregatedReleaseNotes(AggregatedReleaseNotes releaseNotes);
 
+    /**
+     * Writes the formatted release notes to the provided output. Creators
+     * may override this to avoid building the intermediate String.
+     *
+     * @param releaseNotes to format
+     * @param out the output the release notes are appended to, e.g. a {@link StringBuilder} or a {@link java.io.Writer}
+     * @throws IOException if the output fails
+     */
+    default void formatReleaseNotes(ReleaseNotes releaseNotes, Appendable out) throws IOException {
+        out.append(formatReleaseNotes(releaseNotes));
+    }
+
+    /**
+     * Writes the formatted aggregated release notes to the provided output.
+     * Creators may override this to avoid building the intermediate String.
+     *
+     * @param releaseNotes to format
+     * @param out the output the release notes are appended to, e.g. a {@link StringBuilder} or a {@link java.io.Writer}
+     * @throws IOException if the output fails
+     */
+    default void formatAggregatedReleaseNotes(AggregatedReleaseNotes releaseNotes, Appendable out) throws IOException {
+        out.append(formatAggregatedReleaseNotes(releaseNotes));
+    }
+
     static ReleaseNoteCreator markdown() {
         return new MarkdownReleaseNoteCreator();
     }
@@ -1,65 +1,124 @@
 package net.openhft.chronicle.releasenotes.creator.internal;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
-import static net.openhft.chronicle.releasenotes.creator.internal.util.MarkdownUtil.bold;
-import static net.openhft.chronicle.releasenotes.creator.internal.util.MarkdownUtil.header;
-import static net.openhft.chronicle.releasenotes.creator.internal.util.MarkdownUtil.italic;
-import static net.openhft.chronicle.releasenotes.creator.internal.util.MarkdownUtil.entry;
-import static net.openhft.chronicle.releasenotes.model.Issue.compareByLabel;
 
 import net.openhft.chronicle.releasenotes.creator.ReleaseNoteCreator;
 import net.openhft.chronicle.releasenotes.model.AggregatedReleaseNotes;
+import net.openhft.chronicle.releasenotes.model.Issue;
 import net.openhft.chronicle.releasenotes.model.ReleaseNotes;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Formats release notes as a markdown list of issues, ordered by their
+ * first label.
+ * <p>
+ * Issues are bucketed by their first label once per release instead of
+ * being sorted, keeping the order of issues sharing a label. Every entry
+ * is then appended piece by piece to the output in a single pass.
+ */
 public final class MarkdownReleaseNoteCreator implements ReleaseNoteCreator {
 
     private static final String DEFAULT_LABEL = "closed";
-    private static final String MISSING_CHANGELOG = "No changelog for this release.";
+    private static final String MISSING_CHANGELOG = "*No changelog for this release.*";
     private static final String NEW_LINE = System.lineSeparator();
 
     @Override
     public String formatReleaseNotes(ReleaseNotes releaseNotes) {
-        requireNonNull(releaseNotes);
+        final StringBuilder body = new StringBuilder();
 
-        if (releaseNotes.getIssues().size() == 0) {
-            return italic(MISSING_CHANGELOG) + NEW_LINE;
+        try {
+            formatReleaseNotes(releaseNotes, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
+        return body.toString();
+    }
+
+    @Override
+    public String formatAggregatedReleaseNotes(AggregatedReleaseNotes releaseNotes) {
         final StringBuilder body = new StringBuilder();
 
-        releaseNotes.getIssues().stream().sorted(compareByLabel(DEFAULT_LABEL)).collect(toList()).forEach(issue -> {
-            body.append(
-                entry(
-                    label(bold(issue.getLabels().stream().findFirst().orElse(DEFAULT_LABEL)))
-                )
-            )
-            .append(String.format(" %s [#%d](%s)", issue.getTitle(), issue.getNumber(), issue.getUrl()));
+        try {
+            formatAggregatedReleaseNotes(releaseNotes, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-            issue.getComment().ifPresent(comment -> body.append(String.format(" - %s", comment)));
+        return body.toString();
+    }
 
-            body.append(NEW_LINE);
-        });
+    @Override
+    public void formatReleaseNotes(ReleaseNotes releaseNotes, Appendable out) throws IOException {
+        requireNonNull(releaseNotes);
+        requireNonNull(out);
 
-        return body.toString();
+        appendReleaseNotes(releaseNotes, out, new TreeMap<>());
     }
 
     @Override
-    public String formatAggregatedReleaseNotes(AggregatedReleaseNotes releaseNotes) {
+    public void formatAggregatedReleaseNotes(AggregatedReleaseNotes releaseNotes, Appendable out) throws IOException {
         requireNonNull(releaseNotes);
+        requireNonNull(out);
 
-        final StringBuilder body = new StringBuilder();
+        // shared by all releases, the buckets are cleared before each of them
+        final Map<String, List<Issue>> buckets = new TreeMap<>();
 
-        releaseNotes.getReleases().forEach(releaseNote ->
-            body.append(header(bold(releaseNote.getTitle()), 3))
-                .append(NEW_LINE)
-                .append(formatReleaseNotes(releaseNote))
-                .append(NEW_LINE));
+        for (final ReleaseNotes release : releaseNotes.getReleases()) {
+            out.append("### **").append(release.getTitle()).append("**").append(NEW_LINE);
 
-        return body.toString();
+            appendReleaseNotes(release, out, buckets);
+
+            out.append(NEW_LINE);
+        }
     }
 
-    private String label(String text) {
-        return "[" + text + "]";
+    private static void appendReleaseNotes(ReleaseNotes releaseNotes, Appendable out, Map<String, List<Issue>> buckets) throws IOException {
+        final List<Issue> issues = releaseNotes.getIssues();
+
+        if (issues.isEmpty()) {
+            out.append(MISSING_CHANGELOG).append(NEW_LINE);
+            return;
+        }
+
+        buckets.values().forEach(List::clear);
+
+        for (final Issue issue : issues) {
+            buckets.computeIfAbsent(label(issue), label -> new ArrayList<>()).add(issue);
+        }
+
+        for (final Map.Entry<String, List<Issue>> bucket : buckets.entrySet()) {
+            for (final Issue issue : bucket.getValue()) {
+                appendEntry(bucket.getKey(), issue, out);
+            }
+        }
+    }
+
+    private static void appendEntry(String label, Issue issue, Appendable out) throws IOException {
+        out.append("- [**").append(label).append("**] ")
+            .append(issue.getTitle())
+            .append(" [#").append(Integer.toString(issue.getNumber()))
+            .append("](").append(issue.getUrl().toString()).append(')');
+
+        final Optional<String> comment = issue.getComment();
+
+        if (comment.isPresent()) {
+            out.append(" - ").append(comment.get());
+        }
+
+        out.append(NEW_LINE);
+    }
+
+    private static String label(Issue issue) {
+        final List<String> labels = issue.getLabels();
+
+        return labels.isEmpty() ? DEFAULT_LABEL : labels.get(0);
     }
 }
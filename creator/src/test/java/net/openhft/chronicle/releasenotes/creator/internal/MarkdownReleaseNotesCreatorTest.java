@@ -1,5 +1,6 @@
 package net.openhft.chronicle.releasenotes.creator.internal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -7,6 +8,8 @@ import net.openhft.chronicle.releasenotes.model.*;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
@@ -64,6 +67,35 @@ final class MarkdownReleaseNotesCreatorTest {
         assertTrue(body.contains("No changelog"));
     }
 
+    @Test
+    void createReleaseInto() throws IOException {
+        final ReleaseNotes releaseNotes = new ReleaseNotes("1.0.0", "1.0.0", ISSUES);
+        final AggregatedReleaseNotes aggregatedRelease = new AggregatedReleaseNotes("1.2.0", "1.2.0",
+                Arrays.asList(releaseNotes, new ReleaseNotes("1.1.0", "1.1.0", Collections.emptyList())));
+
+        final StringWriter body = new StringWriter();
+        releaseCreator.formatReleaseNotes(releaseNotes, body);
+
+        assertEquals(releaseCreator.formatReleaseNotes(releaseNotes), body.toString());
+
+        final StringWriter aggregatedBody = new StringWriter();
+        releaseCreator.formatAggregatedReleaseNotes(aggregatedRelease, aggregatedBody);
+
+        assertEquals(releaseCreator.formatAggregatedReleaseNotes(aggregatedRelease), aggregatedBody.toString());
+    }
+
+    @Test
+    void createReleaseOrderedByFirstLabel() {
+        final String body = releaseCreator.formatReleaseNotes(new ReleaseNotes("1.0.0", "1.0.0", ISSUES));
+        final String newLine = System.lineSeparator();
+
+        assertEquals("- [**bug**] Sample Bug [#3](https://test.com) - Explanation" + newLine +
+                "- [**closed**] Sample Issue [#1](https://test.com)" + newLine +
+                "- [**enhancement**] Sample Feature [#2](https://test.com)" + newLine +
+                "- [**enhancement**] Sample Complex [#5](https://test.com)" + newLine +
+                "- [**wontfix**] Sample Wontfix [#4](https://test.com)" + newLine, body);
+    }
+
     private void printRelease(String tag, String body, String header) {
         System.out.println();
         System.out.println(header + " - Tag: " + tag);
@@ -0,0 +1,45 @@
+package net.openhft.chronicle.releasenotes.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+public final class Commit {
+
+    private final String sha1;
+    private final String message;
+
+    public Commit(String sha1, String message) {
+        this.sha1 = requireNonNull(sha1);
+        this.message = requireNonNull(message);
+    }
+
+    public String getSHA1() {
+        return sha1;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Commit commit = (Commit) o;
+        return sha1.equals(commit.sha1) && message.equals(commit.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sha1, message);
+    }
+
+    @Override
+    public String toString() {
+        return "Commit{" +
+                "sha1='" + sha1 + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}